@@ -4,36 +4,62 @@ import nextstep.subway.auth.domain.LoginMember;
 import nextstep.subway.auth.dto.TokenRequest;
 import nextstep.subway.auth.dto.TokenResponse;
 import nextstep.subway.auth.infrastructure.JwtTokenProvider;
+import nextstep.subway.auth.infrastructure.TokenClaims;
+import nextstep.subway.member.application.MemberCache;
+import nextstep.subway.member.application.PasswordService;
 import nextstep.subway.member.domain.Member;
 import nextstep.subway.member.domain.MemberRepository;
+import nextstep.subway.member.dto.MemberResponse;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 public class AuthService {
     private MemberRepository memberRepository;
     private JwtTokenProvider jwtTokenProvider;
+    private MemberCache memberCache;
+    private PasswordService passwordService;
 
-    public AuthService(MemberRepository memberRepository, JwtTokenProvider jwtTokenProvider) {
+    public AuthService(MemberRepository memberRepository, JwtTokenProvider jwtTokenProvider, MemberCache memberCache,
+                       PasswordService passwordService) {
         this.memberRepository = memberRepository;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.memberCache = memberCache;
+        this.passwordService = passwordService;
     }
 
     public TokenResponse login(TokenRequest request) {
-        Member member = memberRepository.findByEmail(request.getEmail()).orElseThrow(AuthorizationException::new);
-        member.checkPassword(request.getPassword());
+        Member member = memberRepository.findByEmail(request.getEmail()).orElse(null);
+        if (member == null) {
+            passwordService.matchUnknownMember(request.getPassword());
+            throw new AuthorizationException();
+        }
+        member.checkPassword(request.getPassword(), passwordService);
+        if (member.needsPasswordUpgrade(passwordService)) {
+            member.upgradePassword(request.getPassword(), passwordService);
+            memberRepository.save(member);
+        }
 
-        String token = jwtTokenProvider.createToken(request.getEmail());
+        String token = jwtTokenProvider.createToken(new LoginMember(member.getId(), member.getEmail(), member.getAge()));
         return new TokenResponse(token);
     }
 
     public LoginMember findMemberByToken(String credentials) {
-        if (!jwtTokenProvider.validateToken(credentials)) {
+        Optional<TokenClaims> claims = jwtTokenProvider.verify(credentials);
+        if (!claims.isPresent()) {
             return new LoginMember();
         }
 
-        String email = jwtTokenProvider.getPayload(credentials);
-        Member member = memberRepository.findByEmail(email).orElseThrow(RuntimeException::new);
+        TokenClaims verified = claims.get();
+        if (verified.getSchemaVersion() >= TokenClaims.SCHEMA_VERSION) {
+            return new LoginMember(verified.getMemberId(), verified.getSubject(), verified.getAge());
+        }
+
+        String email = verified.getSubject();
+        MemberResponse member = memberCache.findByEmail(email,
+                () -> MemberResponse.of(memberRepository.findByEmail(email).orElseThrow(RuntimeException::new)));
         return new LoginMember(member.getId(), member.getEmail(), member.getAge());
     }
 }
@@ -0,0 +1,34 @@
+package nextstep.subway.auth.domain;
+
+import java.util.function.Supplier;
+
+public class LazyLoginMember extends LoginMember {
+    private final Supplier<LoginMember> loader;
+    private LoginMember loaded;
+
+    public LazyLoginMember(Supplier<LoginMember> loader) {
+        this.loader = loader;
+    }
+
+    @Override
+    public Long getId() {
+        return member().getId();
+    }
+
+    @Override
+    public String getEmail() {
+        return member().getEmail();
+    }
+
+    @Override
+    public Integer getAge() {
+        return member().getAge();
+    }
+
+    private synchronized LoginMember member() {
+        if (loaded == null) {
+            loaded = loader.get();
+        }
+        return loaded;
+    }
+}
@@ -1,20 +1,44 @@
 package nextstep.subway.auth.infrastructure;
 
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.impl.TextCodec;
+import nextstep.subway.auth.domain.LoginMember;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
-    @Value("${security.jwt.token.secret-key}")
-    private String secretKey;
-    @Value("${security.jwt.token.expire-length}")
-    private long validityInMilliseconds;
+    private static final SignatureAlgorithm ALGORITHM = SignatureAlgorithm.HS256;
+
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final long validityInMilliseconds;
+
+    public JwtTokenProvider(@Value("${security.jwt.token.secret-key}") String secretKey,
+                            @Value("${security.jwt.token.expire-length}") long validityInMilliseconds) {
+        this.signingKey = new SecretKeySpec(TextCodec.BASE64.decode(secretKey), ALGORITHM.getJcaName());
+        this.parser = Jwts.parser().setSigningKey(signingKey);
+        this.validityInMilliseconds = validityInMilliseconds;
+    }
+
+    public String createToken(LoginMember member) {
+        Claims claims = Jwts.claims().setSubject(member.getEmail());
+        claims.put(TokenClaims.VERSION_CLAIM, TokenClaims.SCHEMA_VERSION);
+        claims.put(TokenClaims.MEMBER_ID_CLAIM, member.getId());
+        claims.put(TokenClaims.AGE_CLAIM, member.getAge());
+        return createToken(claims);
+    }
 
     public String createToken(String payload) {
-        Claims claims = Jwts.claims().setSubject(payload);
+        return createToken(Jwts.claims().setSubject(payload));
+    }
+
+    private String createToken(Claims claims) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
@@ -22,22 +46,22 @@ public class JwtTokenProvider {
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(validity)
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(ALGORITHM, signingKey)
                 .compact();
     }
 
-    public String getPayload(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().getSubject();
-    }
-
-    public boolean validateToken(String token) {
+    public Optional<TokenClaims> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
         try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-
-            return !claims.getBody().getExpiration().before(new Date());
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() == null || claims.getExpiration().before(new Date())) {
+                return Optional.empty();
+            }
+            return Optional.of(new TokenClaims(claims));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 }
-
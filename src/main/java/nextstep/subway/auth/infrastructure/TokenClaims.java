@@ -0,0 +1,43 @@
+package nextstep.subway.auth.infrastructure;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+public class TokenClaims {
+    public static final int SCHEMA_VERSION = 1;
+    static final String VERSION_CLAIM = "ver";
+    static final String MEMBER_ID_CLAIM = "id";
+    static final String AGE_CLAIM = "age";
+
+    private final Claims claims;
+
+    TokenClaims(Claims claims) {
+        this.claims = claims;
+    }
+
+    public String getSubject() {
+        return claims.getSubject();
+    }
+
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    public int getSchemaVersion() {
+        Integer version = claims.get(VERSION_CLAIM, Integer.class);
+        return version == null ? 0 : version;
+    }
+
+    public Long getMemberId() {
+        return claims.get(MEMBER_ID_CLAIM, Long.class);
+    }
+
+    public Integer getAge() {
+        return claims.get(AGE_CLAIM, Integer.class);
+    }
+
+    public <T> T get(String name, Class<T> type) {
+        return claims.get(name, type);
+    }
+}
@@ -0,0 +1,11 @@
+package nextstep.subway.favorite.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class FavoriteNotFoundException extends RuntimeException {
+    public FavoriteNotFoundException(Long id) {
+        super("즐겨찾기가 존재하지 않습니다. id=" + id);
+    }
+}
@@ -0,0 +1,65 @@
+package nextstep.subway.favorite.application;
+
+import nextstep.subway.line.application.NetworkChangedEvent;
+import nextstep.subway.path.application.SubwayGraphProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class FavoriteRouteRefresher {
+    private final FavoriteService favoriteService;
+    private final SubwayGraphProvider graphProvider;
+    private final long delayMillis;
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "favorite-route-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    public FavoriteRouteRefresher(FavoriteService favoriteService, SubwayGraphProvider graphProvider,
+                                  @Value("${subway.favorite.refresh-delay-ms:1000}") long delayMillis) {
+        this.favoriteService = favoriteService;
+        this.graphProvider = graphProvider;
+        this.delayMillis = delayMillis;
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        scheduleRefresh();
+    }
+
+    @EventListener
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        scheduleRefresh();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private void scheduleRefresh() {
+        if (refreshScheduled.compareAndSet(false, true)) {
+            refresher.schedule(this::refresh, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void refresh() {
+        refreshScheduled.set(false);
+        if (!graphProvider.isCurrent()) {
+            // 노선도를 아직 다시 만드는 중이면 새 스냅샷으로 계산하도록 미룬다
+            scheduleRefresh();
+            return;
+        }
+        favoriteService.refreshRoutes();
+    }
+}
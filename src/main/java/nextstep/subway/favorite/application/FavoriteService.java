@@ -0,0 +1,106 @@
+package nextstep.subway.favorite.application;
+
+import nextstep.subway.auth.application.AuthorizationException;
+import nextstep.subway.auth.domain.LoginMember;
+import nextstep.subway.favorite.domain.Favorite;
+import nextstep.subway.favorite.domain.FavoriteRepository;
+import nextstep.subway.favorite.domain.FavoriteRoute;
+import nextstep.subway.favorite.dto.FavoriteRequest;
+import nextstep.subway.favorite.dto.FavoriteResponse;
+import nextstep.subway.path.application.PathService;
+import nextstep.subway.path.application.SubwayGraphProvider;
+import nextstep.subway.path.domain.PathMode;
+import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.path.dto.PathResponse;
+import nextstep.subway.station.application.StationService;
+import nextstep.subway.station.domain.Station;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class FavoriteService {
+    private final FavoriteRepository favoriteRepository;
+    private final StationService stationService;
+    private final PathService pathService;
+    private final SubwayGraphProvider graphProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final int refreshBatchSize;
+
+    public FavoriteService(FavoriteRepository favoriteRepository, StationService stationService,
+                           PathService pathService, SubwayGraphProvider graphProvider,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${subway.favorite.refresh-batch-size:500}") int refreshBatchSize) {
+        this.favoriteRepository = favoriteRepository;
+        this.stationService = stationService;
+        this.pathService = pathService;
+        this.graphProvider = graphProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.refreshBatchSize = refreshBatchSize;
+    }
+
+    public FavoriteResponse saveFavorite(LoginMember loginMember, FavoriteRequest request) {
+        checkLogin(loginMember);
+        Station source = stationService.findStationById(request.getSource());
+        Station target = stationService.findStationById(request.getTarget());
+        FavoriteRoute route = route(graphProvider.current(), source.getId(), target.getId());
+        Favorite favorite = favoriteRepository.save(new Favorite(loginMember.getId(), source, target, route));
+        return FavoriteResponse.of(favorite, loginMember.getAge());
+    }
+
+    public List<FavoriteResponse> findFavorites(LoginMember loginMember) {
+        checkLogin(loginMember);
+        return favoriteRepository.findAllByMemberId(loginMember.getId()).stream()
+                .map(favorite -> FavoriteResponse.of(favorite, loginMember.getAge()))
+                .collect(Collectors.toList());
+    }
+
+    public void deleteFavorite(LoginMember loginMember, Long id) {
+        checkLogin(loginMember);
+        Favorite favorite = favoriteRepository.findById(id).orElseThrow(() -> new FavoriteNotFoundException(id));
+        favorite.checkOwner(loginMember.getId());
+        favoriteRepository.delete(favorite);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void refreshRoutes() {
+        SubwayGraph graph = graphProvider.current();
+        // 다시 계산한 즐겨찾기는 조회 조건에서 빠지므로 매번 첫 묶음을 각자의 트랜잭션에서 처리한다
+        PageRequest batch = PageRequest.of(0, refreshBatchSize);
+        boolean remaining = true;
+        while (remaining) {
+            remaining = transactionTemplate.execute(status -> refreshRoutes(graph, batch));
+        }
+    }
+
+    private boolean refreshRoutes(SubwayGraph graph, PageRequest batch) {
+        List<Favorite> favorites = favoriteRepository.findAllWithRouteOtherThan(graph.getVersion(), batch);
+        for (Favorite favorite : favorites) {
+            favorite.updateRoute(route(graph, favorite.getSource().getId(), favorite.getTarget().getId()));
+        }
+        return favorites.size() == batch.getPageSize();
+    }
+
+    private FavoriteRoute route(SubwayGraph graph, Long sourceId, Long targetId) {
+        try {
+            PathResponse path = pathService.findPath(graph, sourceId, targetId, PathMode.DISTANCE);
+            return FavoriteRoute.of(graph.getVersion(), path.getDistance(), path.getFare(), path.getTransfers());
+        } catch (IllegalArgumentException e) {
+            return FavoriteRoute.notConnected(graph.getVersion());
+        }
+    }
+
+    private void checkLogin(LoginMember loginMember) {
+        if (loginMember.getId() == null) {
+            throw new AuthorizationException();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package nextstep.subway.favorite.domain;
+
+import nextstep.subway.BaseEntity;
+import nextstep.subway.auth.application.ForbiddenException;
+import nextstep.subway.station.domain.Station;
+
+import javax.persistence.*;
+
+@Entity
+@Table(indexes = @Index(name = "ix_favorite_member", columnList = "member_id"))
+public class Favorite extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @ManyToOne
+    @JoinColumn(name = "source_station_id")
+    private Station source;
+
+    @ManyToOne
+    @JoinColumn(name = "target_station_id")
+    private Station target;
+
+    @Embedded
+    private FavoriteRoute route;
+
+    protected Favorite() {
+    }
+
+    public Favorite(Long memberId, Station source, Station target, FavoriteRoute route) {
+        if (source.equals(target)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+        this.memberId = memberId;
+        this.source = source;
+        this.target = target;
+        this.route = route;
+    }
+
+    public void checkOwner(Long memberId) {
+        if (!this.memberId.equals(memberId)) {
+            throw new ForbiddenException("즐겨찾기를 등록한 회원이 아닙니다.");
+        }
+    }
+
+    public void updateRoute(FavoriteRoute route) {
+        this.route = route;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public Station getSource() {
+        return source;
+    }
+
+    public Station getTarget() {
+        return target;
+    }
+
+    public FavoriteRoute getRoute() {
+        return route;
+    }
+}
@@ -0,0 +1,24 @@
+package nextstep.subway.favorite.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
+    @Query("select f from Favorite f " +
+            "join fetch f.source " +
+            "join fetch f.target " +
+            "where f.memberId = :memberId " +
+            "order by f.id")
+    List<Favorite> findAllByMemberId(@Param("memberId") Long memberId);
+
+    @Query("select f from Favorite f " +
+            "join fetch f.source " +
+            "join fetch f.target " +
+            "where f.route.version is null or f.route.version <> :version " +
+            "order by f.id")
+    List<Favorite> findAllWithRouteOtherThan(@Param("version") long version, Pageable pageable);
+}
@@ -0,0 +1,57 @@
+package nextstep.subway.favorite.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+@Embeddable
+public class FavoriteRoute {
+    @Column(name = "route_version")
+    private Long version;
+
+    @Column(name = "route_distance")
+    private Integer distance;
+
+    @Column(name = "route_fare")
+    private Integer fare;
+
+    @Column(name = "route_transfers")
+    private Integer transfers;
+
+    protected FavoriteRoute() {
+    }
+
+    private FavoriteRoute(Long version, Integer distance, Integer fare, Integer transfers) {
+        this.version = version;
+        this.distance = distance;
+        this.fare = fare;
+        this.transfers = transfers;
+    }
+
+    public static FavoriteRoute of(long version, int distance, int fare, int transfers) {
+        return new FavoriteRoute(version, distance, fare, transfers);
+    }
+
+    public static FavoriteRoute notConnected(long version) {
+        return new FavoriteRoute(version, null, null, null);
+    }
+
+    public boolean isConnected() {
+        return distance != null;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public Integer getDistance() {
+        return distance;
+    }
+
+    public Integer getFare() {
+        return fare;
+    }
+
+    public Integer getTransfers() {
+        return transfers;
+    }
+}
@@ -0,0 +1,58 @@
+package nextstep.subway.favorite.dto;
+
+import nextstep.subway.favorite.domain.Favorite;
+import nextstep.subway.favorite.domain.FavoriteRoute;
+import nextstep.subway.path.domain.AgeDiscount;
+import nextstep.subway.station.dto.StationResponse;
+
+public class FavoriteResponse {
+    private Long id;
+    private StationResponse source;
+    private StationResponse target;
+    private Integer distance;
+    private Integer fare;
+    private Integer transfers;
+
+    public FavoriteResponse() {
+    }
+
+    public FavoriteResponse(Long id, StationResponse source, StationResponse target, Integer distance, Integer fare, Integer transfers) {
+        this.id = id;
+        this.source = source;
+        this.target = target;
+        this.distance = distance;
+        this.fare = fare;
+        this.transfers = transfers;
+    }
+
+    public static FavoriteResponse of(Favorite favorite, Integer age) {
+        FavoriteRoute route = favorite.getRoute();
+        Integer fare = route.isConnected() ? AgeDiscount.apply(route.getFare(), age) : null;
+        return new FavoriteResponse(favorite.getId(), StationResponse.of(favorite.getSource()), StationResponse.of(favorite.getTarget()),
+                route.getDistance(), fare, route.getTransfers());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public StationResponse getSource() {
+        return source;
+    }
+
+    public StationResponse getTarget() {
+        return target;
+    }
+
+    public Integer getDistance() {
+        return distance;
+    }
+
+    public Integer getFare() {
+        return fare;
+    }
+
+    public Integer getTransfers() {
+        return transfers;
+    }
+}
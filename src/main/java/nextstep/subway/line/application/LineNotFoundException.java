@@ -0,0 +1,11 @@
+package nextstep.subway.line.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class LineNotFoundException extends RuntimeException {
+    public LineNotFoundException(Long id) {
+        super("노선이 존재하지 않습니다. id=" + id);
+    }
+}
@@ -0,0 +1,82 @@
+package nextstep.subway.line.application;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.LineRepository;
+import nextstep.subway.line.dto.LineResponse;
+import nextstep.subway.station.dto.StationResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Component
+public class LineReadModel {
+    private final LineRepository lineRepository;
+    private final Map<Long, LineResponse> lines = new ConcurrentHashMap<>();
+    private volatile List<LineResponse> allLines;
+    private long generation;
+
+    public LineReadModel(LineRepository lineRepository) {
+        this.lineRepository = lineRepository;
+    }
+
+    public List<LineResponse> findLines() {
+        List<LineResponse> current = allLines;
+        if (current != null) {
+            return current;
+        }
+        long loadedAt = generation();
+        List<LineResponse> loaded = Collections.unmodifiableList(lineRepository.findAll().stream()
+                .map(LineReadModel::project)
+                .collect(Collectors.toList()));
+        synchronized (this) {
+            if (generation == loadedAt) {
+                loaded.forEach(it -> lines.put(it.getId(), it));
+                allLines = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    public LineResponse findLine(Long id) {
+        LineResponse current = lines.get(id);
+        if (current != null) {
+            return current;
+        }
+        long loadedAt = generation();
+        LineResponse loaded = lineRepository.findAllWithSectionsByIdIn(Collections.singleton(id)).stream()
+                .findFirst()
+                .map(LineReadModel::project)
+                .orElseThrow(() -> new LineNotFoundException(id));
+        synchronized (this) {
+            if (generation == loadedAt) {
+                lines.put(id, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void evict(Long lineId) {
+        generation++;
+        allLines = null;
+        if (lineId == null) {
+            lines.clear();
+            return;
+        }
+        lines.remove(lineId);
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    private static LineResponse project(Line line) {
+        List<StationResponse> stations = line.getStations().stream()
+                .map(StationResponse::of)
+                .collect(Collectors.toList());
+        return LineResponse.of(line, Collections.unmodifiableList(stations));
+    }
+}
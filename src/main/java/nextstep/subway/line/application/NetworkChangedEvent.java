@@ -0,0 +1,25 @@
+package nextstep.subway.line.application;
+
+import nextstep.subway.line.domain.SectionChanges;
+
+public class NetworkChangedEvent {
+    private final long version;
+    private final SectionChanges changes;
+
+    public NetworkChangedEvent(long version) {
+        this(version, null);
+    }
+
+    public NetworkChangedEvent(long version, SectionChanges changes) {
+        this.version = version;
+        this.changes = changes;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public SectionChanges getChanges() {
+        return changes;
+    }
+}
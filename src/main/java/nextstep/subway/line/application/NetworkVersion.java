@@ -0,0 +1,27 @@
+package nextstep.subway.line.application;
+
+import nextstep.subway.line.domain.LineChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class NetworkVersion {
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+    private final ApplicationEventPublisher eventPublisher;
+
+    public NetworkVersion(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLineChanged(LineChangedEvent event) {
+        eventPublisher.publishEvent(new NetworkChangedEvent(version.incrementAndGet(), event.getChanges()));
+    }
+}
@@ -4,7 +4,6 @@ import nextstep.subway.BaseEntity;
 import nextstep.subway.station.domain.Station;
 
 import javax.persistence.*;
-import java.util.ArrayList;
 import java.util.List;
 
 @Entity
@@ -15,9 +14,10 @@ public class Line extends BaseEntity {
     @Column(unique = true)
     private String name;
     private String color;
+    private int extraFare;
 
-    @OneToMany(mappedBy = "line", cascade = {CascadeType.PERSIST, CascadeType.MERGE}, orphanRemoval = true)
-    private List<Section> sections = new ArrayList<>();
+    @Embedded
+    private Sections sections = new Sections();
 
     public Line() {
     }
@@ -27,15 +27,27 @@ public class Line extends BaseEntity {
         this.color = color;
     }
 
+    public Line(String name, String color, int extraFare) {
+        this.name = name;
+        this.color = color;
+        this.extraFare = extraFare;
+    }
+
     public Line(String name, String color, Station upStation, Station downStation, int distance) {
+        this(name, color, upStation, downStation, distance, 0);
+    }
+
+    public Line(String name, String color, Station upStation, Station downStation, int distance, int extraFare) {
         this.name = name;
         this.color = color;
+        this.extraFare = extraFare;
         sections.add(new Section(this, upStation, downStation, distance));
     }
 
     public void update(Line line) {
         this.name = line.getName();
         this.color = line.getColor();
+        this.extraFare = line.getExtraFare();
     }
 
     public Long getId() {
@@ -50,7 +62,23 @@ public class Line extends BaseEntity {
         return color;
     }
 
+    public int getExtraFare() {
+        return extraFare;
+    }
+
+    public SectionChanges addSection(Station upStation, Station downStation, int distance) {
+        return sections.add(new Section(this, upStation, downStation, distance));
+    }
+
+    public SectionChanges removeStation(Station station) {
+        return sections.remove(this, station);
+    }
+
+    public List<Station> getStations() {
+        return sections.getStations();
+    }
+
     public List<Section> getSections() {
-        return sections;
+        return sections.getSections();
     }
 }
@@ -0,0 +1,23 @@
+package nextstep.subway.line.domain;
+
+public class LineChangedEvent {
+    private final Long lineId;
+    private final SectionChanges changes;
+
+    public LineChangedEvent(Long lineId) {
+        this(lineId, null);
+    }
+
+    public LineChangedEvent(Long lineId, SectionChanges changes) {
+        this.lineId = lineId;
+        this.changes = changes;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public SectionChanges getChanges() {
+        return changes;
+    }
+}
@@ -1,6 +1,24 @@
 package nextstep.subway.line.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface LineRepository extends JpaRepository<Line, Long> {
+    @Override
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation")
+    List<Line> findAll();
+
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "where l.id in :ids")
+    List<Line> findAllWithSectionsByIdIn(@Param("ids") Collection<Long> ids);
 }
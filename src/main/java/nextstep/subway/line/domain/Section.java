@@ -24,6 +24,8 @@ public class Section {
 
     private int distance;
 
+    private int sequence;
+
     public Section() {
     }
 
@@ -54,6 +56,18 @@ public class Section {
         return distance;
     }
 
+    public int getSequence() {
+        return sequence;
+    }
+
+    public void updateSequence(int sequence) {
+        this.sequence = sequence;
+    }
+
+    Section snapshot() {
+        return new Section(line, upStation, downStation, distance);
+    }
+
     public void updateUpStation(Station station, int newDistance) {
         if (this.distance <= newDistance) {
             throw new RuntimeException("역과 역 사이의 거리보다 좁은 거리를 입력해주세요");
@@ -0,0 +1,38 @@
+package nextstep.subway.line.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class SectionChanges {
+    private final List<Section> removed = new ArrayList<>();
+    private final List<Section> added = new ArrayList<>();
+
+    public static SectionChanges added(List<Section> sections) {
+        SectionChanges changes = new SectionChanges();
+        sections.forEach(changes::add);
+        return changes;
+    }
+
+    public static SectionChanges removed(List<Section> sections) {
+        SectionChanges changes = new SectionChanges();
+        sections.forEach(changes::remove);
+        return changes;
+    }
+
+    void add(Section section) {
+        added.add(section.snapshot());
+    }
+
+    void remove(Section section) {
+        removed.add(section.snapshot());
+    }
+
+    public List<Section> getRemoved() {
+        return Collections.unmodifiableList(removed);
+    }
+
+    public List<Section> getAdded() {
+        return Collections.unmodifiableList(added);
+    }
+}
@@ -0,0 +1,11 @@
+package nextstep.subway.line.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface SectionRepository extends JpaRepository<Section, Long> {
+    @Query("select s from Section s join fetch s.line join fetch s.upStation join fetch s.downStation")
+    List<Section> findAllWithStations();
+}
@@ -0,0 +1,187 @@
+package nextstep.subway.line.domain;
+
+import nextstep.subway.station.domain.Station;
+
+import javax.persistence.CascadeType;
+import javax.persistence.Embeddable;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.Transient;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Embeddable
+public class Sections {
+    @OneToMany(mappedBy = "line", cascade = {CascadeType.PERSIST, CascadeType.MERGE}, orphanRemoval = true)
+    @OrderBy("sequence ASC")
+    private List<Section> sections = new ArrayList<>();
+
+    @Transient
+    private Map<Long, Section> sectionsByUpStation;
+    @Transient
+    private Map<Long, Section> sectionsByDownStation;
+    @Transient
+    private List<Station> stations;
+
+    public Sections() {
+    }
+
+    public SectionChanges add(Section section) {
+        SectionChanges changes = new SectionChanges();
+        if (sections.isEmpty()) {
+            append(section, changes);
+            return changes;
+        }
+
+        boolean isUpStationExisted = contains(section.getUpStation());
+        boolean isDownStationExisted = contains(section.getDownStation());
+        if (isUpStationExisted && isDownStationExisted) {
+            throw new RuntimeException("이미 등록된 구간 입니다.");
+        }
+        if (!isUpStationExisted && !isDownStationExisted) {
+            throw new RuntimeException("등록할 수 없는 구간 입니다.");
+        }
+
+        if (isUpStationExisted) {
+            Section next = sectionsByUpStation.get(section.getUpStation().getId());
+            if (next != null) {
+                changes.remove(next);
+                next.updateUpStation(section.getDownStation(), section.getDistance());
+                changes.add(next);
+            }
+        } else {
+            Section previous = sectionsByDownStation.get(section.getDownStation().getId());
+            if (previous != null) {
+                changes.remove(previous);
+                previous.updateDownStation(section.getUpStation(), section.getDistance());
+                changes.add(previous);
+            }
+        }
+        append(section, changes);
+        return changes;
+    }
+
+    public SectionChanges remove(Line line, Station station) {
+        if (sections.size() <= 1) {
+            throw new RuntimeException();
+        }
+
+        index();
+        SectionChanges changes = new SectionChanges();
+        Section next = sectionsByUpStation.get(station.getId());
+        Section previous = sectionsByDownStation.get(station.getId());
+        if (next != null && previous != null) {
+            Section merged = new Section(line, previous.getUpStation(), next.getDownStation(), previous.getDistance() + next.getDistance());
+            sections.add(merged);
+            changes.add(merged);
+        }
+        if (next != null) {
+            sections.remove(next);
+            changes.remove(next);
+        }
+        if (previous != null) {
+            sections.remove(previous);
+            changes.remove(previous);
+        }
+        reorder();
+        return changes;
+    }
+
+    public boolean contains(Station station) {
+        index();
+        return sectionsByUpStation.containsKey(station.getId()) || sectionsByDownStation.containsKey(station.getId());
+    }
+
+    public List<Station> getStations() {
+        if (stations == null) {
+            stations = Collections.unmodifiableList(isOrdered() ? stationsOf(sections) : stationsOf(sortSections()));
+        }
+        return stations;
+    }
+
+    public List<Section> getSections() {
+        return Collections.unmodifiableList(sections);
+    }
+
+    public int size() {
+        return sections.size();
+    }
+
+    private boolean isOrdered() {
+        for (int i = 1; i < sections.size(); i++) {
+            Section previous = sections.get(i - 1);
+            Section section = sections.get(i);
+            if (previous.getSequence() >= section.getSequence()
+                    || !previous.getDownStation().getId().equals(section.getUpStation().getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Section> sortSections() {
+        if (sections.size() <= 1) {
+            return new ArrayList<>(sections);
+        }
+
+        index();
+        List<Section> ordered = new ArrayList<>(sections.size());
+        Section next = sectionsByUpStation.get(findUpStation().getId());
+        while (next != null) {
+            ordered.add(next);
+            next = sectionsByUpStation.get(next.getDownStation().getId());
+        }
+        return ordered;
+    }
+
+    private static List<Station> stationsOf(List<Section> ordered) {
+        List<Station> stations = new ArrayList<>(ordered.size() + 1);
+        if (ordered.isEmpty()) {
+            return stations;
+        }
+        stations.add(ordered.get(0).getUpStation());
+        for (Section section : ordered) {
+            stations.add(section.getDownStation());
+        }
+        return stations;
+    }
+
+    private Station findUpStation() {
+        return sections.stream()
+                .map(Section::getUpStation)
+                .filter(it -> !sectionsByDownStation.containsKey(it.getId()))
+                .findFirst()
+                .orElseThrow(RuntimeException::new);
+    }
+
+    private void append(Section section, SectionChanges changes) {
+        sections.add(section);
+        changes.add(section);
+        reorder();
+    }
+
+    private void index() {
+        if (sectionsByUpStation != null) {
+            return;
+        }
+        sectionsByUpStation = new HashMap<>();
+        sectionsByDownStation = new HashMap<>();
+        for (Section section : sections) {
+            sectionsByUpStation.put(section.getUpStation().getId(), section);
+            sectionsByDownStation.put(section.getDownStation().getId(), section);
+        }
+    }
+
+    private void reorder() {
+        sectionsByUpStation = null;
+        sectionsByDownStation = null;
+        List<Section> ordered = sortSections();
+        for (int i = 0; i < ordered.size(); i++) {
+            ordered.get(i).updateSequence(i);
+        }
+        stations = Collections.unmodifiableList(stationsOf(ordered));
+    }
+}
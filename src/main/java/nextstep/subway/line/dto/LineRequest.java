@@ -8,6 +8,7 @@ public class LineRequest {
     private Long upStationId;
     private Long downStationId;
     private int distance;
+    private int extraFare;
 
     public LineRequest() {
     }
@@ -20,6 +21,11 @@ public class LineRequest {
         this.distance = distance;
     }
 
+    public LineRequest(String name, String color, Long upStationId, Long downStationId, int distance, int extraFare) {
+        this(name, color, upStationId, downStationId, distance);
+        this.extraFare = extraFare;
+    }
+
     public String getName() {
         return name;
     }
@@ -40,7 +46,11 @@ public class LineRequest {
         return distance;
     }
 
+    public int getExtraFare() {
+        return extraFare;
+    }
+
     public Line toLine() {
-        return new Line(name, color);
+        return new Line(name, color, extraFare);
     }
 }
@@ -1,10 +1,14 @@
 package nextstep.subway.line.ui;
 
+import nextstep.subway.line.application.LineReadModel;
 import nextstep.subway.line.application.LineService;
 import nextstep.subway.line.dto.LineRequest;
 import nextstep.subway.line.dto.LineResponse;
 import nextstep.subway.line.dto.SectionRequest;
+import nextstep.subway.map.application.MapChangeTracker;
+import nextstep.subway.map.domain.VersionTag;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,9 +19,13 @@ import java.util.List;
 @RequestMapping("/lines")
 public class LineController {
     private final LineService lineService;
+    private final LineReadModel lineReadModel;
+    private final MapChangeTracker changeTracker;
 
-    public LineController(final LineService lineService) {
+    public LineController(final LineService lineService, final LineReadModel lineReadModel, final MapChangeTracker changeTracker) {
         this.lineService = lineService;
+        this.lineReadModel = lineReadModel;
+        this.changeTracker = changeTracker;
     }
 
     @PostMapping
@@ -27,13 +35,24 @@ public class LineController {
     }
 
     @GetMapping
-    public ResponseEntity<List<LineResponse>> findAllLines() {
-        return ResponseEntity.ok(lineService.findLines());
+    public ResponseEntity<List<LineResponse>> findAllLines(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = VersionTag.of("lines", changeTracker.linesVersion());
+        if (VersionTag.matches(ifNoneMatch, eTag)) {
+            return VersionTag.notModified(eTag).build();
+        }
+        return VersionTag.ok(eTag).body(lineReadModel.findLines());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<LineResponse> findLineById(@PathVariable Long id) {
-        return ResponseEntity.ok(lineService.findLineResponseById(id));
+    public ResponseEntity<LineResponse> findLineById(@PathVariable Long id,
+                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = VersionTag.of("line-" + id, changeTracker.lineVersion(id));
+        // 없는 노선도 버전은 있으므로 304 로 답하기 전에 노선이 있는지 먼저 확인한다
+        LineResponse line = lineReadModel.findLine(id);
+        if (VersionTag.matches(ifNoneMatch, eTag)) {
+            return VersionTag.notModified(eTag).build();
+        }
+        return VersionTag.ok(eTag).body(line);
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,75 @@
+package nextstep.subway.map.application;
+
+import nextstep.subway.map.domain.MapChange;
+import nextstep.subway.map.dto.MapChangeResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Component
+public class MapChangeStream {
+    private static final String EVENT_NAME = "change";
+
+    private final long timeoutMillis;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "map-change-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MapChangeStream(@Value("${subway.map.stream.timeout-ms:1800000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    public int subscribers() {
+        return emitters.size();
+    }
+
+    @EventListener
+    public void onMapChanged(MapChange change) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        MapChangeResponse response = MapChangeResponse.of(change);
+        dispatcher.execute(() -> broadcast(response));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    private void broadcast(MapChangeResponse response) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(response.getVersion()))
+                        .name(EVENT_NAME)
+                        .data(response, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
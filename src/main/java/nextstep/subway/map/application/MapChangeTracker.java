@@ -0,0 +1,59 @@
+package nextstep.subway.map.application;
+
+import nextstep.subway.line.application.LineReadModel;
+import nextstep.subway.line.domain.LineChangedEvent;
+import nextstep.subway.map.domain.MapChange;
+import nextstep.subway.map.domain.MapChangeLog;
+import nextstep.subway.map.domain.MapChangeType;
+import nextstep.subway.map.domain.MapChanges;
+import nextstep.subway.station.domain.StationChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class MapChangeTracker {
+    private final MapChangeLog changeLog;
+    private final LineReadModel lineReadModel;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MapChangeTracker(LineReadModel lineReadModel, ApplicationEventPublisher eventPublisher,
+                            @Value("${subway.map.changes.max-entries:10000}") int maxEntries) {
+        this.changeLog = new MapChangeLog(System.currentTimeMillis(), maxEntries);
+        this.lineReadModel = lineReadModel;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public long version() {
+        return changeLog.version();
+    }
+
+    public long linesVersion() {
+        return changeLog.versionOf(MapChangeType.LINE);
+    }
+
+    public long lineVersion(Long lineId) {
+        return changeLog.versionOf(MapChangeType.LINE, lineId);
+    }
+
+    public long stationsVersion() {
+        return changeLog.versionOf(MapChangeType.STATION);
+    }
+
+    public MapChanges changesSince(long since) {
+        return changeLog.changesSince(since);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLineChanged(LineChangedEvent event) {
+        // 새 버전의 ETag 가 이전 노선 응답과 짝지어지지 않도록 버전을 올리기 전에 조회 모델을 비운다
+        lineReadModel.evict(event.getLineId());
+        eventPublisher.publishEvent(changeLog.append(MapChangeType.LINE, event.getLineId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStationChanged(StationChangedEvent event) {
+        eventPublisher.publishEvent(changeLog.append(MapChangeType.STATION, event.getStationId()));
+    }
+}
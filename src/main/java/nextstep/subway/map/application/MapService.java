@@ -0,0 +1,82 @@
+package nextstep.subway.map.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.line.domain.LineRepository;
+import nextstep.subway.map.domain.MapChanges;
+import nextstep.subway.map.domain.SerializedMap;
+import nextstep.subway.map.dto.MapChangesResponse;
+import nextstep.subway.map.dto.MapLineResponse;
+import nextstep.subway.station.domain.StationRepository;
+import nextstep.subway.station.dto.StationResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class MapService {
+    private final LineRepository lineRepository;
+    private final StationRepository stationRepository;
+    private final MapChangeTracker changeTracker;
+    private final ObjectMapper objectMapper;
+    private volatile SerializedMap map;
+
+    public MapService(LineRepository lineRepository, StationRepository stationRepository,
+                      MapChangeTracker changeTracker, ObjectMapper objectMapper) {
+        this.lineRepository = lineRepository;
+        this.stationRepository = stationRepository;
+        this.changeTracker = changeTracker;
+        this.objectMapper = objectMapper;
+    }
+
+    public SerializedMap findMap() {
+        SerializedMap current = map;
+        if (current != null && current.getVersion() == changeTracker.version()) {
+            return current;
+        }
+        synchronized (this) {
+            long version = changeTracker.version();
+            if (map == null || map.getVersion() != version) {
+                map = SerializedMap.of(version, serialize());
+            }
+            return map;
+        }
+    }
+
+    public MapChangesResponse findChanges(long since) {
+        MapChanges changes = changeTracker.changesSince(since);
+        if (changes.isReset()) {
+            return new MapChangesResponse(changes.getVersion(), true, Collections.emptyList(), Collections.emptyList(),
+                    Collections.emptyList(), Collections.emptyList());
+        }
+
+        List<MapLineResponse> lines = changes.getLineIds().isEmpty() ? Collections.emptyList()
+                : lineRepository.findAllWithSectionsByIdIn(changes.getLineIds()).stream()
+                .map(MapLineResponse::of)
+                .collect(Collectors.toList());
+        List<Long> deletedLineIds = new ArrayList<>(changes.getLineIds());
+        lines.forEach(it -> deletedLineIds.remove(it.getId()));
+
+        List<StationResponse> stations = stationRepository.findAllById(changes.getStationIds()).stream()
+                .map(StationResponse::of)
+                .collect(Collectors.toList());
+        List<Long> deletedStationIds = new ArrayList<>(changes.getStationIds());
+        stations.forEach(it -> deletedStationIds.remove(it.getId()));
+
+        return new MapChangesResponse(changes.getVersion(), false, lines, deletedLineIds, stations, deletedStationIds);
+    }
+
+    private byte[] serialize() {
+        List<MapLineResponse> lines = lineRepository.findAll().stream()
+                .map(MapLineResponse::of)
+                .collect(Collectors.toList());
+        try {
+            return objectMapper.writeValueAsBytes(lines);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
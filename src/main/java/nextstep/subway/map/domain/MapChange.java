@@ -0,0 +1,25 @@
+package nextstep.subway.map.domain;
+
+public class MapChange {
+    private final long version;
+    private final MapChangeType type;
+    private final Long id;
+
+    public MapChange(long version, MapChangeType type, Long id) {
+        this.version = version;
+        this.type = type;
+        this.id = id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public MapChangeType getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
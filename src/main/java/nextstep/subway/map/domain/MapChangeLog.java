@@ -0,0 +1,88 @@
+package nextstep.subway.map.domain;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+public class MapChangeLog {
+    private final int maxEntries;
+    private final TreeMap<Long, MapChange> changes = new TreeMap<>();
+    private final Map<MapChangeType, Map<Long, Long>> latestVersions = new HashMap<>();
+    private final Map<MapChangeType, Long> typeVersions = new HashMap<>();
+    private long version;
+    private long horizon;
+
+    public MapChangeLog(long initialVersion, int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("변경 이력은 1건 이상 보관해야 합니다.");
+        }
+        this.maxEntries = maxEntries;
+        this.version = initialVersion;
+        this.horizon = initialVersion;
+    }
+
+    public synchronized long version() {
+        return version;
+    }
+
+    public synchronized MapChange append(MapChangeType type, Long id) {
+        if (type == MapChangeType.RESET || id == null) {
+            return reset();
+        }
+        MapChange change = new MapChange(++version, type, id);
+        Long previous = latestVersions.computeIfAbsent(type, it -> new HashMap<>()).put(id, change.getVersion());
+        if (previous != null) {
+            changes.remove(previous);
+        }
+        typeVersions.put(type, change.getVersion());
+        changes.put(change.getVersion(), change);
+        while (changes.size() > maxEntries) {
+            MapChange evicted = changes.pollFirstEntry().getValue();
+            latestVersions.get(evicted.getType()).remove(evicted.getId());
+            horizon = evicted.getVersion();
+        }
+        return change;
+    }
+
+    public synchronized MapChange reset() {
+        changes.clear();
+        latestVersions.clear();
+        typeVersions.clear();
+        horizon = ++version;
+        return new MapChange(version, MapChangeType.RESET, null);
+    }
+
+    public synchronized long versionOf(MapChangeType type) {
+        return typeVersions.getOrDefault(type, horizon);
+    }
+
+    public synchronized long versionOf(MapChangeType type, Long id) {
+        Map<Long, Long> versions = latestVersions.get(type);
+        if (versions == null) {
+            return horizon;
+        }
+        return versions.getOrDefault(id, horizon);
+    }
+
+    public synchronized MapChanges changesSince(long since) {
+        if (since < horizon || since > version) {
+            return MapChanges.reset(version);
+        }
+        Set<Long> lineIds = new LinkedHashSet<>();
+        Set<Long> stationIds = new LinkedHashSet<>();
+        for (MapChange change : changes.tailMap(since, false).values()) {
+            if (change.getType() == MapChangeType.LINE) {
+                lineIds.add(change.getId());
+            } else {
+                stationIds.add(change.getId());
+            }
+        }
+        return MapChanges.of(version, lineIds, stationIds);
+    }
+
+    public synchronized int size() {
+        return changes.size();
+    }
+}
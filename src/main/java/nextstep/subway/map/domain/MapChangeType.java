@@ -0,0 +1,5 @@
+package nextstep.subway.map.domain;
+
+public enum MapChangeType {
+    LINE, STATION, RESET
+}
@@ -0,0 +1,42 @@
+package nextstep.subway.map.domain;
+
+import java.util.Collections;
+import java.util.Set;
+
+public class MapChanges {
+    private final long version;
+    private final boolean reset;
+    private final Set<Long> lineIds;
+    private final Set<Long> stationIds;
+
+    private MapChanges(long version, boolean reset, Set<Long> lineIds, Set<Long> stationIds) {
+        this.version = version;
+        this.reset = reset;
+        this.lineIds = Collections.unmodifiableSet(lineIds);
+        this.stationIds = Collections.unmodifiableSet(stationIds);
+    }
+
+    public static MapChanges of(long version, Set<Long> lineIds, Set<Long> stationIds) {
+        return new MapChanges(version, false, lineIds, stationIds);
+    }
+
+    public static MapChanges reset(long version) {
+        return new MapChanges(version, true, Collections.emptySet(), Collections.emptySet());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    public Set<Long> getLineIds() {
+        return lineIds;
+    }
+
+    public Set<Long> getStationIds() {
+        return stationIds;
+    }
+}
@@ -0,0 +1,65 @@
+package nextstep.subway.map.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.GZIPOutputStream;
+
+public class SerializedMap {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final long version;
+    private final byte[] identity;
+    private final byte[] gzip;
+    private final String identityETag;
+    private final String gzipETag;
+
+    private SerializedMap(long version, byte[] identity, byte[] gzip, String digest) {
+        this.version = version;
+        this.identity = identity;
+        this.gzip = gzip;
+        this.identityETag = "\"" + digest + "\"";
+        this.gzipETag = "\"" + digest + "-gzip\"";
+    }
+
+    public static SerializedMap of(long version, byte[] identity) {
+        return new SerializedMap(version, identity, gzip(identity), digest(identity));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public byte[] body(boolean gzipped) {
+        return gzipped ? gzip : identity;
+    }
+
+    public String eTag(boolean gzipped) {
+        return gzipped ? gzipETag : identityETag;
+    }
+
+    private static byte[] gzip(byte[] identity) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(identity);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String digest(byte[] identity) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(identity);
+            char[] digest = new char[32];
+            for (int i = 0; i < digest.length / 2; i++) {
+                digest[i * 2] = HEX[(hash[i] >> 4) & 0xf];
+                digest[i * 2 + 1] = HEX[hash[i] & 0xf];
+            }
+            return new String(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package nextstep.subway.map.domain;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+public class VersionTag {
+    private static final String WEAK_PREFIX = "W/";
+
+    private VersionTag() {
+    }
+
+    public static String of(String name, long version) {
+        return "\"" + name + "-" + version + "\"";
+    }
+
+    public static ResponseEntity.BodyBuilder ok(String eTag) {
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache());
+    }
+
+    public static ResponseEntity.BodyBuilder notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache());
+    }
+
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith(WEAK_PREFIX)) {
+                trimmed = trimmed.substring(WEAK_PREFIX.length());
+            }
+            if (trimmed.equals("*") || trimmed.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
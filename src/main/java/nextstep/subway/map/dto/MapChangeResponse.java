@@ -0,0 +1,35 @@
+package nextstep.subway.map.dto;
+
+import nextstep.subway.map.domain.MapChange;
+import nextstep.subway.map.domain.MapChangeType;
+
+public class MapChangeResponse {
+    private long version;
+    private MapChangeType type;
+    private Long id;
+
+    public MapChangeResponse() {
+    }
+
+    public MapChangeResponse(long version, MapChangeType type, Long id) {
+        this.version = version;
+        this.type = type;
+        this.id = id;
+    }
+
+    public static MapChangeResponse of(MapChange change) {
+        return new MapChangeResponse(change.getVersion(), change.getType(), change.getId());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public MapChangeType getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,51 @@
+package nextstep.subway.map.dto;
+
+import nextstep.subway.station.dto.StationResponse;
+
+import java.util.List;
+
+public class MapChangesResponse {
+    private long version;
+    private boolean reset;
+    private List<MapLineResponse> lines;
+    private List<Long> deletedLineIds;
+    private List<StationResponse> stations;
+    private List<Long> deletedStationIds;
+
+    public MapChangesResponse() {
+    }
+
+    public MapChangesResponse(long version, boolean reset, List<MapLineResponse> lines, List<Long> deletedLineIds,
+                              List<StationResponse> stations, List<Long> deletedStationIds) {
+        this.version = version;
+        this.reset = reset;
+        this.lines = lines;
+        this.deletedLineIds = deletedLineIds;
+        this.stations = stations;
+        this.deletedStationIds = deletedStationIds;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    public List<MapLineResponse> getLines() {
+        return lines;
+    }
+
+    public List<Long> getDeletedLineIds() {
+        return deletedLineIds;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public List<Long> getDeletedStationIds() {
+        return deletedStationIds;
+    }
+}
@@ -0,0 +1,63 @@
+package nextstep.subway.map.dto;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.station.dto.StationResponse;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class MapLineResponse {
+    private Long id;
+    private String name;
+    private String color;
+    private int extraFare;
+    private List<MapStationResponse> stations;
+    private List<MapSectionResponse> sections;
+
+    public MapLineResponse() {
+    }
+
+    public MapLineResponse(Long id, String name, String color, int extraFare, List<MapStationResponse> stations,
+                           List<MapSectionResponse> sections) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+        this.extraFare = extraFare;
+        this.stations = stations;
+        this.sections = sections;
+    }
+
+    public static MapLineResponse of(Line line) {
+        List<MapStationResponse> stations = line.getStations().stream()
+                .map(it -> new MapStationResponse(StationResponse.of(it)))
+                .collect(Collectors.toList());
+        List<MapSectionResponse> sections = line.getSections().stream()
+                .map(MapSectionResponse::of)
+                .collect(Collectors.toList());
+        return new MapLineResponse(line.getId(), line.getName(), line.getColor(), line.getExtraFare(), stations, sections);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public int getExtraFare() {
+        return extraFare;
+    }
+
+    public List<MapStationResponse> getStations() {
+        return stations;
+    }
+
+    public List<MapSectionResponse> getSections() {
+        return sections;
+    }
+}
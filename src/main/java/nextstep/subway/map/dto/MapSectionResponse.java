@@ -0,0 +1,34 @@
+package nextstep.subway.map.dto;
+
+import nextstep.subway.line.domain.Section;
+
+public class MapSectionResponse {
+    private Long upStationId;
+    private Long downStationId;
+    private int distance;
+
+    public MapSectionResponse() {
+    }
+
+    public MapSectionResponse(Long upStationId, Long downStationId, int distance) {
+        this.upStationId = upStationId;
+        this.downStationId = downStationId;
+        this.distance = distance;
+    }
+
+    public static MapSectionResponse of(Section section) {
+        return new MapSectionResponse(section.getUpStation().getId(), section.getDownStation().getId(), section.getDistance());
+    }
+
+    public Long getUpStationId() {
+        return upStationId;
+    }
+
+    public Long getDownStationId() {
+        return downStationId;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
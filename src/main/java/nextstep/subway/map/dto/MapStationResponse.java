@@ -0,0 +1,18 @@
+package nextstep.subway.map.dto;
+
+import nextstep.subway.station.dto.StationResponse;
+
+public class MapStationResponse {
+    private StationResponse station;
+
+    public MapStationResponse() {
+    }
+
+    public MapStationResponse(StationResponse station) {
+        this.station = station;
+    }
+
+    public StationResponse getStation() {
+        return station;
+    }
+}
@@ -0,0 +1,80 @@
+package nextstep.subway.map.ui;
+
+import nextstep.subway.map.application.MapChangeStream;
+import nextstep.subway.map.application.MapService;
+import nextstep.subway.map.domain.SerializedMap;
+import nextstep.subway.map.domain.VersionTag;
+import nextstep.subway.map.dto.MapChangesResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+public class MapController {
+    private static final String GZIP = "gzip";
+    private static final String MAP_VERSION = "X-Map-Version";
+
+    private final MapService mapService;
+    private final MapChangeStream changeStream;
+
+    public MapController(MapService mapService, MapChangeStream changeStream) {
+        this.mapService = mapService;
+        this.changeStream = changeStream;
+    }
+
+    @GetMapping("/maps")
+    public ResponseEntity<byte[]> findMap(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SerializedMap map = mapService.findMap();
+        boolean gzipped = acceptsGzip(acceptEncoding);
+        String eTag = map.eTag(gzipped);
+        if (VersionTag.matches(ifNoneMatch, eTag)) {
+            return VersionTag.notModified(eTag)
+                    .header(MAP_VERSION, String.valueOf(map.getVersion()))
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        byte[] body = map.body(gzipped);
+        ResponseEntity.BodyBuilder response = VersionTag.ok(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length)
+                .header(MAP_VERSION, String.valueOf(map.getVersion()))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/maps/changes")
+    public ResponseEntity<MapChangesResponse> findChanges(@RequestParam long since) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(mapService.findChanges(since));
+    }
+
+    @GetMapping(value = "/maps/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges() {
+        return changeStream.subscribe();
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
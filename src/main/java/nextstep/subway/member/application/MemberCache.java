@@ -0,0 +1,166 @@
+package nextstep.subway.member.application;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import nextstep.subway.member.domain.MemberChangedEvent;
+import nextstep.subway.member.dto.MemberResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Component
+public class MemberCache implements MeterBinder {
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries;
+    private final Map<String, Long> idsByEmail = new HashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private long generation;
+
+    public MemberCache(@Value("${subway.member.cache.max-size:1000}") int maxSize,
+                       @Value("${subway.member.cache.ttl-ms:60000}") long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.entries = new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() <= MemberCache.this.maxSize) {
+                    return false;
+                }
+                idsByEmail.remove(eldest.getValue().member.getEmail(), eldest.getKey());
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    public MemberResponse findById(Long id, Supplier<MemberResponse> loader) {
+        MemberResponse cached;
+        long loadedAt;
+        synchronized (this) {
+            cached = get(id);
+            loadedAt = generation;
+        }
+        return cached != null ? hit(cached) : load(loader, loadedAt);
+    }
+
+    public MemberResponse findByEmail(String email, Supplier<MemberResponse> loader) {
+        MemberResponse cached;
+        long loadedAt;
+        synchronized (this) {
+            Long id = idsByEmail.get(email);
+            cached = id == null ? null : get(id);
+            loadedAt = generation;
+        }
+        return cached != null ? hit(cached) : load(loader, loadedAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onMemberChanged(MemberChangedEvent event) {
+        generation++;
+        if (event.getMemberId() == null) {
+            entries.clear();
+            idsByEmail.clear();
+            return;
+        }
+        remove(event.getMemberId());
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long expirationCount() {
+        return expirations.sum();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", this, MemberCache::hitCount)
+                .tags("cache", "members", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", this, MemberCache::missCount)
+                .tags("cache", "members", "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", this, MemberCache::evictionCount)
+                .tags("cache", "members")
+                .register(registry);
+        FunctionCounter.builder("cache.expirations", this, MemberCache::expirationCount)
+                .tags("cache", "members")
+                .register(registry);
+        Gauge.builder("cache.size", this, MemberCache::size)
+                .tags("cache", "members")
+                .register(registry);
+    }
+
+    private MemberResponse get(Long id) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.loadedAt >= ttlNanos) {
+            remove(id);
+            expirations.increment();
+            return null;
+        }
+        return entry.member;
+    }
+
+    private MemberResponse hit(MemberResponse member) {
+        hits.increment();
+        return member;
+    }
+
+    private MemberResponse load(Supplier<MemberResponse> loader, long loadedAt) {
+        misses.increment();
+        MemberResponse loaded = loader.get();
+        synchronized (this) {
+            if (generation == loadedAt) {
+                remove(loaded.getId());
+                entries.put(loaded.getId(), new Entry(loaded));
+                idsByEmail.put(loaded.getEmail(), loaded.getId());
+            }
+        }
+        return loaded;
+    }
+
+    private void remove(Long id) {
+        Entry removed = entries.remove(id);
+        if (removed != null) {
+            idsByEmail.remove(removed.member.getEmail(), id);
+        }
+    }
+
+    private static class Entry {
+        private final MemberResponse member;
+        private final long loadedAt = System.nanoTime();
+
+        private Entry(MemberResponse member) {
+            this.member = member;
+        }
+    }
+}
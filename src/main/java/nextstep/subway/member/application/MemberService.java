@@ -1,36 +1,55 @@
 package nextstep.subway.member.application;
 
 import nextstep.subway.member.domain.Member;
+import nextstep.subway.member.domain.MemberChangedEvent;
 import nextstep.subway.member.domain.MemberRepository;
 import nextstep.subway.member.dto.MemberRequest;
 import nextstep.subway.member.dto.MemberResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class MemberService {
     private MemberRepository memberRepository;
+    private MemberCache memberCache;
+    private PasswordService passwordService;
+    private ApplicationEventPublisher eventPublisher;
+    private TransactionTemplate transactionTemplate;
 
-    public MemberService(MemberRepository memberRepository) {
+    public MemberService(MemberRepository memberRepository, MemberCache memberCache, PasswordService passwordService,
+                         ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
         this.memberRepository = memberRepository;
+        this.memberCache = memberCache;
+        this.passwordService = passwordService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     public MemberResponse createMember(MemberRequest request) {
-        Member member = memberRepository.save(request.toMember());
+        Member member = memberRepository.save(request.toMember(passwordService));
         return MemberResponse.of(member);
     }
 
     public MemberResponse findMember(Long id) {
-        Member member = memberRepository.findById(id).orElseThrow(RuntimeException::new);
-        return MemberResponse.of(member);
+        return memberCache.findById(id, () -> MemberResponse.of(memberRepository.findById(id).orElseThrow(RuntimeException::new)));
     }
 
     public void updateMember(Long id, MemberRequest param) {
-        Member member = memberRepository.findById(id).orElseThrow(RuntimeException::new);
-        member.update(param.toMember());
+        // 해시는 오래 걸리므로 트랜잭션을 열기 전에 끝내 커넥션을 붙잡지 않는다
+        Member updated = param.toMember(passwordService);
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = memberRepository.findById(id).orElseThrow(RuntimeException::new);
+            member.update(updated);
+            eventPublisher.publishEvent(new MemberChangedEvent(id));
+        });
     }
 
+    @Transactional
     public void deleteMember(Long id) {
         memberRepository.deleteById(id);
+        eventPublisher.publishEvent(new MemberChangedEvent(id));
     }
 }
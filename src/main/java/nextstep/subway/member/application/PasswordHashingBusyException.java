@@ -0,0 +1,11 @@
+package nextstep.subway.member.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException() {
+        super("비밀번호 처리 요청이 많아 잠시 후 다시 시도해야 합니다.");
+    }
+}
@@ -0,0 +1,95 @@
+package nextstep.subway.member.application;
+
+import nextstep.subway.member.domain.PasswordEncoder;
+import nextstep.subway.member.domain.Pbkdf2Password;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class PasswordService implements PasswordEncoder {
+    private static final int PROBE_ITERATIONS = 10_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int PROBE_ROUNDS = 5;
+    private static final int ITERATION_STEP = 10_000;
+    private static final int MAX_ITERATIONS = 10_000_000;
+
+    private static final String UNKNOWN_MEMBER_PASSWORD = "unknown-member";
+
+    private final Semaphore admitted;
+    private final Semaphore running;
+    private final int iterations;
+    private final String unknownMemberHash;
+
+    public PasswordService(@Value("${subway.password.target-ms:100}") long targetMillis,
+                           @Value("${subway.password.min-iterations:10000}") int minIterations,
+                           @Value("${subway.password.threads:0}") int threads,
+                           @Value("${subway.password.queue-capacity:64}") int queueCapacity) {
+        int concurrency = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.admitted = new Semaphore(concurrency + queueCapacity);
+        this.running = new Semaphore(concurrency, true);
+        this.iterations = calibrate(TimeUnit.MILLISECONDS.toNanos(targetMillis), minIterations);
+        this.unknownMemberHash = Pbkdf2Password.hash(UNKNOWN_MEMBER_PASSWORD, iterations);
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return execute(() -> Pbkdf2Password.hash(rawPassword, iterations));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (!Pbkdf2Password.isHashed(encodedPassword)) {
+            return Pbkdf2Password.matches(rawPassword, encodedPassword);
+        }
+        return execute(() -> Pbkdf2Password.matches(rawPassword, encodedPassword));
+    }
+
+    public void matchUnknownMember(String rawPassword) {
+        // 없는 이메일도 비밀번호 비교만큼 시간을 써서 응답 시간으로 가입 여부를 알 수 없게 한다
+        matches(rawPassword, unknownMemberHash);
+    }
+
+    @Override
+    public boolean needsUpgrade(String encodedPassword) {
+        return Pbkdf2Password.iterationsOf(encodedPassword) < iterations;
+    }
+
+    private int calibrate(long targetNanos, int minIterations) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            execute(() -> Pbkdf2Password.hash("calibration", PROBE_ITERATIONS));
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < PROBE_ROUNDS; i++) {
+            long startedAt = System.nanoTime();
+            execute(() -> Pbkdf2Password.hash("calibration", PROBE_ITERATIONS));
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+        long scaled = targetNanos * PROBE_ITERATIONS / Math.max(best, 1);
+        long rounded = scaled / ITERATION_STEP * ITERATION_STEP;
+        return (int) Math.min(MAX_ITERATIONS, Math.max(minIterations, rounded));
+    }
+
+    private <T> T execute(Supplier<T> task) {
+        // 해시는 요청 스레드에서 하되 동시에 해시하는 수와 기다리는 수를 묶어 두고, 넘치면 기다리지 않고 거절한다
+        if (!admitted.tryAcquire()) {
+            throw new PasswordHashingBusyException();
+        }
+        try {
+            running.acquire();
+            try {
+                return task.get();
+            } finally {
+                running.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            admitted.release();
+        }
+    }
+}
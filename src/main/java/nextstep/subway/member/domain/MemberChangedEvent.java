@@ -0,0 +1,13 @@
+package nextstep.subway.member.domain;
+
+public class MemberChangedEvent {
+    private final Long memberId;
+
+    public MemberChangedEvent(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+}
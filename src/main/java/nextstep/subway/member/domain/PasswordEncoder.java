@@ -0,0 +1,9 @@
+package nextstep.subway.member.domain;
+
+public interface PasswordEncoder {
+    String encode(String rawPassword);
+
+    boolean matches(String rawPassword, String encodedPassword);
+
+    boolean needsUpgrade(String encodedPassword);
+}
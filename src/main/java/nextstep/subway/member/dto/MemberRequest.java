@@ -1,6 +1,7 @@
 package nextstep.subway.member.dto;
 
 import nextstep.subway.member.domain.Member;
+import nextstep.subway.member.domain.PasswordEncoder;
 
 public class MemberRequest {
     private String email;
@@ -28,7 +29,7 @@ public class MemberRequest {
         return age;
     }
 
-    public Member toMember() {
-        return new Member(email, password, age);
+    public Member toMember(PasswordEncoder passwordEncoder) {
+        return new Member(email, passwordEncoder.encode(password), age);
     }
 }
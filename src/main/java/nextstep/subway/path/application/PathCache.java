@@ -0,0 +1,122 @@
+package nextstep.subway.path.application;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import nextstep.subway.path.domain.PathMode;
+import nextstep.subway.path.dto.PathResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Component
+public class PathCache implements MeterBinder {
+    private final int maxSize;
+    private final Map<Key, PathResponse> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PathCache(@Value("${subway.path.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<Key, PathResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, PathResponse> eldest) {
+                if (size() <= PathCache.this.maxSize) {
+                    return false;
+                }
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    public PathResponse get(Long source, Long target, long version, PathMode mode, Supplier<PathResponse> loader) {
+        Key key = new Key(source, target, version, mode);
+        PathResponse cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        PathResponse loaded = loader.get();
+        synchronized (entries) {
+            entries.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", this, PathCache::hitCount)
+                .tags("cache", "paths", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", this, PathCache::missCount)
+                .tags("cache", "paths", "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", this, PathCache::evictionCount)
+                .tags("cache", "paths")
+                .register(registry);
+        Gauge.builder("cache.size", this, PathCache::size)
+                .tags("cache", "paths")
+                .register(registry);
+    }
+
+    private static class Key {
+        private final Long source;
+        private final Long target;
+        private final long version;
+        private final PathMode mode;
+
+        private Key(Long source, Long target, long version, PathMode mode) {
+            this.source = source;
+            this.target = target;
+            this.version = version;
+            this.mode = mode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return version == key.version &&
+                    Objects.equals(source, key.source) &&
+                    Objects.equals(target, key.target) &&
+                    mode == key.mode;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(source, target, version, mode);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package nextstep.subway.path.application;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.subway.auth.domain.LoginMember;
+import nextstep.subway.path.domain.AltSearch;
+import nextstep.subway.path.domain.ContractionHierarchy;
+import nextstep.subway.path.domain.ContractionHierarchySearch;
+import nextstep.subway.path.domain.DijkstraSearch;
+import nextstep.subway.path.domain.Landmarks;
+import nextstep.subway.path.domain.MultiCriteriaSearch;
+import nextstep.subway.path.domain.Path;
+import nextstep.subway.path.domain.PathEngine;
+import nextstep.subway.path.domain.PathMode;
+import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.path.domain.YenSearch;
+import nextstep.subway.path.dto.DistanceMatrixRequest;
+import nextstep.subway.path.dto.DistanceMatrixResponse;
+import nextstep.subway.path.dto.PathResponse;
+import nextstep.subway.path.dto.PathsResponse;
+import nextstep.subway.path.dto.ReachableResponse;
+import nextstep.subway.path.dto.ReachableStationResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+@Service
+public class PathService {
+    private static final int MAX_MATRIX_SIZE = 1000;
+    private static final int MAX_ALTERNATIVES = 10;
+
+    private final SubwayGraphProvider graphProvider;
+    private final PathCache pathCache;
+    private final ThreadLocal<DijkstraSearch> searches = ThreadLocal.withInitial(DijkstraSearch::new);
+    private final ThreadLocal<ContractionHierarchySearch> hierarchySearches = ThreadLocal.withInitial(ContractionHierarchySearch::new);
+    private final ThreadLocal<AltSearch> altSearches = ThreadLocal.withInitial(AltSearch::new);
+    private final ThreadLocal<YenSearch> yenSearches = ThreadLocal.withInitial(YenSearch::new);
+    private final ThreadLocal<MultiCriteriaSearch> multiCriteriaSearches = ThreadLocal.withInitial(MultiCriteriaSearch::new);
+    private final ForkJoinPool matrixPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final Map<PathEngine, DistributionSummary> settled = new EnumMap<>(PathEngine.class);
+    private final int paretoMaxLabels;
+
+    public PathService(SubwayGraphProvider graphProvider, PathCache pathCache, MeterRegistry meterRegistry,
+                       @Value("${subway.path.pareto.max-labels:8}") int paretoMaxLabels) {
+        this.graphProvider = graphProvider;
+        this.pathCache = pathCache;
+        this.paretoMaxLabels = paretoMaxLabels;
+        for (PathEngine engine : PathEngine.values()) {
+            settled.put(engine, DistributionSummary.builder("subway.path.settled")
+                    .description("경로 탐색 한 번에 확정한 역의 수")
+                    .tag("engine", engine.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    public PathResponse findPath(LoginMember loginMember, Long source, Long target, PathMode mode) {
+        if (mode == PathMode.PARETO) {
+            throw new IllegalArgumentException("한 가지 경로만 조회할 수 있는 방식이 아닙니다.");
+        }
+        return findPath(graphProvider.current(), source, target, mode).discount(loginMember.getAge());
+    }
+
+    public PathResponse findPath(SubwayGraph graph, Long source, Long target, PathMode mode) {
+        return pathCache.get(source, target, graph.getVersion(), mode, () -> PathResponse.of(search(graph, source, target, mode)));
+    }
+
+    public PathsResponse findParetoPaths(LoginMember loginMember, Long source, Long target) {
+        SubwayGraph graph = graphProvider.current();
+        List<PathResponse> paths = multiCriteriaSearches.get().findParetoPaths(graph, source, target, paretoMaxLabels).stream()
+                .map(path -> PathResponse.of(path).discount(loginMember.getAge()))
+                .collect(Collectors.toList());
+        return new PathsResponse(paths);
+    }
+
+    public PathsResponse findAlternatives(LoginMember loginMember, Long source, Long target, int k) {
+        if (k < 1 || k > MAX_ALTERNATIVES) {
+            throw new IllegalArgumentException("조회할 수 있는 경로의 수를 넘었습니다.");
+        }
+        SubwayGraph graph = graphProvider.current();
+        List<PathResponse> paths = yenSearches.get().findPaths(graph, source, target, k).stream()
+                .map(path -> PathResponse.of(path).discount(loginMember.getAge()))
+                .collect(Collectors.toList());
+        return new PathsResponse(paths);
+    }
+
+    public ReachableResponse findReachable(Long source, int maxDistance) {
+        SubwayGraph graph = graphProvider.current();
+        DijkstraSearch search = searches.get();
+        int[] nodes = search.findReachable(graph, source, maxDistance);
+        List<ReachableStationResponse> stations = new ArrayList<>(nodes.length);
+        for (int node : nodes) {
+            stations.add(ReachableStationResponse.of(graph.station(node), search.distanceTo(node)));
+        }
+        return new ReachableResponse(source, maxDistance, stations);
+    }
+
+    public DistanceMatrixResponse findDistanceMatrix(DistanceMatrixRequest request) {
+        List<Long> sources = request.getSources();
+        List<Long> targets = request.getTargets();
+        if (sources == null || targets == null || sources.size() > MAX_MATRIX_SIZE || targets.size() > MAX_MATRIX_SIZE) {
+            throw new IllegalArgumentException("조회할 수 있는 역의 수를 넘었습니다.");
+        }
+
+        SubwayGraph graph = graphProvider.current();
+        int[][] distances = new int[sources.size()][];
+        List<ForkJoinTask<?>> rows = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            int row = i;
+            rows.add(matrixPool.submit(() -> {
+                distances[row] = searches.get().findDistances(graph, sources.get(row), targets);
+            }));
+        }
+        rows.forEach(ForkJoinTask::join);
+        return new DistanceMatrixResponse(sources, targets, distances);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        matrixPool.shutdown();
+    }
+
+    private Path search(SubwayGraph graph, Long source, Long target, PathMode mode) {
+        if (mode == PathMode.MIN_TRANSFER) {
+            return multiCriteriaSearches.get().findMinTransferPath(graph, source, target);
+        }
+        if (graphProvider.engine() == PathEngine.CH) {
+            ContractionHierarchy hierarchy = graphProvider.hierarchy(graph);
+            if (hierarchy != null) {
+                ContractionHierarchySearch search = hierarchySearches.get();
+                Path path = search.findPath(hierarchy, source, target);
+                settled.get(PathEngine.CH).record(search.settledCount());
+                return path;
+            }
+        }
+        if (graphProvider.engine() == PathEngine.ALT) {
+            Landmarks landmarks = graphProvider.landmarks(graph);
+            if (landmarks != null) {
+                AltSearch search = altSearches.get();
+                Path path = search.findPath(landmarks, source, target);
+                settled.get(PathEngine.ALT).record(search.settledCount());
+                return path;
+            }
+        }
+        DijkstraSearch search = searches.get();
+        Path path = search.findPath(graph, source, target);
+        settled.get(PathEngine.DIJKSTRA).record(search.settledCount());
+        return path;
+    }
+}
@@ -0,0 +1,204 @@
+package nextstep.subway.path.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import nextstep.subway.line.application.NetworkChangedEvent;
+import nextstep.subway.line.application.NetworkVersion;
+import nextstep.subway.line.domain.SectionChanges;
+import nextstep.subway.line.domain.SectionRepository;
+import nextstep.subway.path.domain.ContractionHierarchy;
+import nextstep.subway.path.domain.Landmarks;
+import nextstep.subway.path.domain.PathEngine;
+import nextstep.subway.path.domain.SubwayGraph;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class SubwayGraphProvider implements MeterBinder {
+    private final SectionRepository sectionRepository;
+    private final NetworkVersion networkVersion;
+    private final PathEngine engine;
+    private final int landmarkCount;
+    private final ExecutorService preprocessor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "path-preprocessor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean preprocessScheduled = new AtomicBoolean();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final Object loadLock = new Object();
+    private final Object publishLock = new Object();
+    private volatile ContractionHierarchy hierarchy;
+    private volatile Landmarks landmarks;
+
+    public SubwayGraphProvider(SectionRepository sectionRepository, NetworkVersion networkVersion,
+                               @Value("${subway.path.engine:dijkstra}") String engine,
+                               @Value("${subway.path.alt.landmarks:8}") int landmarkCount) {
+        this.sectionRepository = sectionRepository;
+        this.networkVersion = networkVersion;
+        this.engine = PathEngine.of(engine);
+        this.landmarkCount = landmarkCount;
+    }
+
+    public PathEngine engine() {
+        return engine;
+    }
+
+    public SubwayGraph current() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return load();
+        }
+        if (current.graph.getVersion() < networkVersion.current()) {
+            schedulePreprocess();
+        }
+        return current.graph;
+    }
+
+    public boolean isCurrent() {
+        Snapshot current = snapshot.get();
+        return current != null && current.graph.getVersion() >= networkVersion.current();
+    }
+
+    public ContractionHierarchy hierarchy(SubwayGraph graph) {
+        ContractionHierarchy current = hierarchy;
+        if (current != null && current.getVersion() == graph.getVersion()) {
+            return current;
+        }
+        schedulePreprocess();
+        return null;
+    }
+
+    public Landmarks landmarks(SubwayGraph graph) {
+        Landmarks current = landmarks;
+        if (current != null && current.getVersion() == graph.getVersion()) {
+            return current;
+        }
+        schedulePreprocess();
+        return null;
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        applyChanges(event);
+        if (engine != PathEngine.DIJKSTRA) {
+            schedulePreprocess();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        preprocessor.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("subway.graph.version", this, SubwayGraphProvider::version)
+                .description("경로 탐색에 쓰는 노선도 스냅샷의 버전")
+                .register(registry);
+        TimeGauge.builder("subway.graph.age", this, TimeUnit.MILLISECONDS, SubwayGraphProvider::ageMillis)
+                .description("경로 탐색에 쓰는 노선도 스냅샷이 만들어진 뒤 지난 시간")
+                .register(registry);
+    }
+
+    private long version() {
+        Snapshot current = snapshot.get();
+        return current == null ? 0 : current.graph.getVersion();
+    }
+
+    private double ageMillis() {
+        Snapshot current = snapshot.get();
+        return current == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - current.publishedAt);
+    }
+
+    private void applyChanges(NetworkChangedEvent event) {
+        synchronized (publishLock) {
+            Snapshot current = snapshot.get();
+            if (current == null || current.graph.getVersion() >= event.getVersion()) {
+                return;
+            }
+            SectionChanges changes = event.getChanges();
+            if (changes != null && current.graph.getVersion() == event.getVersion() - 1) {
+                SubwayGraph patched = current.graph.apply(event.getVersion(), changes.getRemoved(), changes.getAdded());
+                if (patched != null) {
+                    snapshot.set(new Snapshot(patched));
+                    return;
+                }
+            }
+        }
+        // 구간 변경을 반영할 수 없으면 이전 스냅샷을 계속 쓰고 백그라운드에서 다시 만든다
+        schedulePreprocess();
+    }
+
+    private SubwayGraph load() {
+        synchronized (loadLock) {
+            Snapshot current = snapshot.get();
+            if (current != null) {
+                return current.graph;
+            }
+            return refresh();
+        }
+    }
+
+    private SubwayGraph refresh() {
+        long version = networkVersion.current();
+        Snapshot current = snapshot.get();
+        if (current != null && current.graph.getVersion() >= version) {
+            return current.graph;
+        }
+        SubwayGraph graph = SubwayGraph.of(version, sectionRepository.findAllWithStations());
+        synchronized (publishLock) {
+            current = snapshot.get();
+            if (current != null && current.graph.getVersion() >= version) {
+                return current.graph;
+            }
+            snapshot.set(new Snapshot(graph));
+            return graph;
+        }
+    }
+
+    private void schedulePreprocess() {
+        if (preprocessScheduled.compareAndSet(false, true)) {
+            preprocessor.execute(this::preprocess);
+        }
+    }
+
+    private void preprocess() {
+        preprocessScheduled.set(false);
+        SubwayGraph current = refresh();
+        if (engine == PathEngine.CH) {
+            ContractionHierarchy built = hierarchy;
+            if (built == null || built.getVersion() != current.getVersion()) {
+                hierarchy = ContractionHierarchy.of(current);
+            }
+        }
+        if (engine == PathEngine.ALT) {
+            Landmarks built = landmarks;
+            if (built == null || built.getVersion() != current.getVersion()) {
+                landmarks = Landmarks.of(current, landmarkCount);
+            }
+        }
+    }
+
+    private static class Snapshot {
+        private final SubwayGraph graph;
+        private final long publishedAt = System.nanoTime();
+
+        private Snapshot(SubwayGraph graph) {
+            this.graph = graph;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package nextstep.subway.path.domain;
+
+public class AgeDiscount {
+    private static final int DEDUCTION = 350;
+    private static final int CHILD_AGE = 6;
+    private static final int TEENAGER_AGE = 13;
+    private static final int ADULT_AGE = 19;
+    private static final int CHILD_DISCOUNT_PERCENT = 50;
+    private static final int TEENAGER_DISCOUNT_PERCENT = 20;
+    private static final int[] DISCOUNT_PERCENTS = new int[ADULT_AGE];
+
+    static {
+        for (int age = CHILD_AGE; age < TEENAGER_AGE; age++) {
+            DISCOUNT_PERCENTS[age] = CHILD_DISCOUNT_PERCENT;
+        }
+        for (int age = TEENAGER_AGE; age < ADULT_AGE; age++) {
+            DISCOUNT_PERCENTS[age] = TEENAGER_DISCOUNT_PERCENT;
+        }
+    }
+
+    private AgeDiscount() {
+    }
+
+    public static int apply(int fare, Integer age) {
+        if (age == null || age < 0 || age >= DISCOUNT_PERCENTS.length || DISCOUNT_PERCENTS[age] == 0) {
+            return fare;
+        }
+        return fare - (fare - DEDUCTION) * DISCOUNT_PERCENTS[age] / 100;
+    }
+}
@@ -0,0 +1,177 @@
+package nextstep.subway.path.domain;
+
+import java.util.Arrays;
+
+public class AltSearch {
+    private static final int UNREACHABLE = DijkstraSearch.UNREACHABLE;
+
+    private final IntMinHeap forwardHeap = new IntMinHeap(0);
+    private final IntMinHeap backwardHeap = new IntMinHeap(0);
+    private int[] forwardDistances = new int[0];
+    private int[] backwardDistances = new int[0];
+    private int[] forwardParents = new int[0];
+    private int[] backwardParents = new int[0];
+    private int[] forwardExtraFares = new int[0];
+    private int[] backwardExtraFares = new int[0];
+    private int[] forwardStamps = new int[0];
+    private int[] backwardStamps = new int[0];
+    private int[] potentials = new int[0];
+    private int[] potentialStamps = new int[0];
+    private int stamp;
+    private int source;
+    private int target;
+    private int best;
+    private int meeting;
+    private int meetingExtraFare;
+    private int settled;
+
+    public Path findPath(Landmarks landmarks, Long sourceId, Long targetId) {
+        if (sourceId.equals(targetId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+        SubwayGraph graph = landmarks.getGraph();
+        int distance = search(landmarks, graph.indexOf(sourceId), graph.indexOf(targetId));
+        if (distance == UNREACHABLE) {
+            throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+        return Path.of(graph, path(), distance);
+    }
+
+    public int search(Landmarks landmarks, int source, int target) {
+        SubwayGraph graph = landmarks.getGraph();
+        prepare(graph.size());
+        this.source = source;
+        this.target = target;
+        best = UNREACHABLE;
+        meeting = -1;
+        meetingExtraFare = 0;
+        reach(forwardStamps, forwardDistances, forwardParents, forwardExtraFares, source, 0, -1, 0);
+        forwardHeap.offer(source, key(landmarks, source, 0, 1));
+        reach(backwardStamps, backwardDistances, backwardParents, backwardExtraFares, target, 0, -1, 0);
+        backwardHeap.offer(target, key(landmarks, target, 0, -1));
+        meet(source, 0, 0, backwardStamps, backwardDistances, backwardExtraFares);
+
+        while (!forwardHeap.isEmpty() && !backwardHeap.isEmpty()) {
+            if (best != UNREACHABLE && (long) forwardHeap.peekKey() + backwardHeap.peekKey() >= 2L * best) {
+                return best;
+            }
+            if (forwardHeap.peekKey() <= backwardHeap.peekKey()) {
+                settle(landmarks, forwardHeap, forwardStamps, forwardDistances, forwardParents, forwardExtraFares,
+                        backwardStamps, backwardDistances, backwardExtraFares, 1);
+            } else {
+                settle(landmarks, backwardHeap, backwardStamps, backwardDistances, backwardParents, backwardExtraFares,
+                        forwardStamps, forwardDistances, forwardExtraFares, -1);
+            }
+        }
+        return best;
+    }
+
+    public int settledCount() {
+        return settled;
+    }
+
+    private void settle(Landmarks landmarks, IntMinHeap heap, int[] stamps, int[] distances, int[] parents, int[] extraFares,
+                        int[] otherStamps, int[] otherDistances, int[] otherExtraFares, int direction) {
+        SubwayGraph graph = landmarks.getGraph();
+        int node = heap.poll();
+        int distance = distances[node];
+        settled++;
+        for (int edge = graph.edgeStart(node); edge < graph.edgeEnd(node); edge++) {
+            int next = graph.target(edge);
+            int candidate = distance + graph.distance(edge);
+            int extraFare = Math.max(extraFares[node], graph.extraFare(edge));
+            if (stamps[next] != stamp) {
+                reach(stamps, distances, parents, extraFares, next, candidate, node, extraFare);
+                heap.offer(next, key(landmarks, next, candidate, direction));
+            } else if (heap.contains(next) && (candidate < distances[next]
+                    || candidate == distances[next] && extraFare < extraFares[next])) {
+                reach(stamps, distances, parents, extraFares, next, candidate, node, extraFare);
+                heap.offer(next, key(landmarks, next, candidate, direction));
+            } else {
+                continue;
+            }
+            meet(next, candidate, extraFare, otherStamps, otherDistances, otherExtraFares);
+        }
+    }
+
+    private int key(Landmarks landmarks, int node, int distance, int direction) {
+        return 2 * distance + direction * potential(landmarks, node);
+    }
+
+    private int potential(Landmarks landmarks, int node) {
+        if (potentialStamps[node] != stamp) {
+            potentialStamps[node] = stamp;
+            potentials[node] = landmarks.lowerBound(node, target) - landmarks.lowerBound(source, node);
+        }
+        return potentials[node];
+    }
+
+    private void meet(int node, int distance, int extraFare, int[] otherStamps, int[] otherDistances, int[] otherExtraFares) {
+        if (otherStamps[node] != stamp) {
+            return;
+        }
+        int total = distance + otherDistances[node];
+        int totalExtraFare = Math.max(extraFare, otherExtraFares[node]);
+        if (total < best || total == best && totalExtraFare < meetingExtraFare) {
+            best = total;
+            meeting = node;
+            meetingExtraFare = totalExtraFare;
+        }
+    }
+
+    private int[] path() {
+        int forwardLength = 0;
+        for (int node = meeting; node >= 0; node = forwardParents[node]) {
+            forwardLength++;
+        }
+        int length = forwardLength;
+        for (int node = backwardParents[meeting]; node >= 0; node = backwardParents[node]) {
+            length++;
+        }
+        int[] path = new int[length];
+        int index = forwardLength;
+        for (int node = meeting; node >= 0; node = forwardParents[node]) {
+            path[--index] = node;
+        }
+        index = forwardLength;
+        for (int node = backwardParents[meeting]; node >= 0; node = backwardParents[node]) {
+            path[index++] = node;
+        }
+        return path;
+    }
+
+    private void reach(int[] stamps, int[] distances, int[] parents, int[] extraFares, int node, int distance, int parent, int extraFare) {
+        stamps[node] = stamp;
+        distances[node] = distance;
+        parents[node] = parent;
+        extraFares[node] = extraFare;
+    }
+
+    private void prepare(int size) {
+        if (forwardDistances.length < size) {
+            forwardDistances = new int[size];
+            backwardDistances = new int[size];
+            forwardParents = new int[size];
+            backwardParents = new int[size];
+            forwardExtraFares = new int[size];
+            backwardExtraFares = new int[size];
+            forwardStamps = new int[size];
+            backwardStamps = new int[size];
+            potentials = new int[size];
+            potentialStamps = new int[size];
+            stamp = 0;
+        }
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(forwardStamps, 0);
+            Arrays.fill(backwardStamps, 0);
+            Arrays.fill(potentialStamps, 0);
+            stamp = 0;
+        }
+        forwardHeap.ensureCapacity(size);
+        forwardHeap.clear();
+        backwardHeap.ensureCapacity(size);
+        backwardHeap.clear();
+        settled = 0;
+        stamp++;
+    }
+}
@@ -0,0 +1,64 @@
+package nextstep.subway.path.domain;
+
+import java.util.Map;
+
+public class ContractionHierarchy {
+    private final SubwayGraph graph;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] distances;
+    private final Map<Long, Integer> middles;
+
+    ContractionHierarchy(SubwayGraph graph, int[] offsets, int[] targets, int[] distances, Map<Long, Integer> middles) {
+        this.graph = graph;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.distances = distances;
+        this.middles = middles;
+    }
+
+    public static ContractionHierarchy of(SubwayGraph graph) {
+        return new ContractionHierarchyBuilder(graph).build();
+    }
+
+    static long pair(int from, int to) {
+        return from < to ? ((long) from << 32) | to : ((long) to << 32) | from;
+    }
+
+    public SubwayGraph getGraph() {
+        return graph;
+    }
+
+    public long getVersion() {
+        return graph.getVersion();
+    }
+
+    public int size() {
+        return graph.size();
+    }
+
+    public int shortcutCount() {
+        return middles.size();
+    }
+
+    public int edgeStart(int node) {
+        return offsets[node];
+    }
+
+    public int edgeEnd(int node) {
+        return offsets[node + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int distance(int edge) {
+        return distances[edge];
+    }
+
+    public int middle(int from, int to) {
+        Integer middle = middles.get(pair(from, to));
+        return middle == null ? -1 : middle;
+    }
+}
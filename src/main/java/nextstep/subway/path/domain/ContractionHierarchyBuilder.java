@@ -0,0 +1,187 @@
+package nextstep.subway.path.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class ContractionHierarchyBuilder {
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    private final SubwayGraph graph;
+    private final List<Map<Integer, Integer>> weights;
+    private final Map<Long, Integer> middles = new HashMap<>();
+    private final boolean[] contracted;
+    private final int[] deletedNeighbors;
+    private final int[] ranks;
+    private final IntMinHeap witnessHeap;
+    private final int[] witnessDistances;
+    private final int[] witnessStamps;
+    private int witnessStamp;
+
+    ContractionHierarchyBuilder(SubwayGraph graph) {
+        int size = graph.size();
+        this.graph = graph;
+        this.weights = new ArrayList<>(size);
+        this.contracted = new boolean[size];
+        this.deletedNeighbors = new int[size];
+        this.ranks = new int[size];
+        this.witnessHeap = new IntMinHeap(size);
+        this.witnessDistances = new int[size];
+        this.witnessStamps = new int[size];
+
+        for (int node = 0; node < size; node++) {
+            Map<Integer, Integer> neighbors = new HashMap<>();
+            for (int edge = graph.edgeStart(node); edge < graph.edgeEnd(node); edge++) {
+                if (graph.target(edge) != node) {
+                    neighbors.merge(graph.target(edge), graph.distance(edge), Math::min);
+                }
+            }
+            weights.add(neighbors);
+        }
+    }
+
+    ContractionHierarchy build() {
+        IntMinHeap queue = new IntMinHeap(graph.size());
+        for (int node = 0; node < graph.size(); node++) {
+            queue.offer(node, priority(node));
+        }
+
+        int rank = 0;
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            int priority = priority(node);
+            if (!queue.isEmpty() && priority > queue.peekKey()) {
+                queue.offer(node, priority);
+                continue;
+            }
+            contract(node);
+            ranks[node] = rank++;
+        }
+        return toHierarchy();
+    }
+
+    private int priority(int node) {
+        return shortcuts(node, false) - neighborsOf(node).size() + deletedNeighbors[node];
+    }
+
+    private void contract(int node) {
+        shortcuts(node, true);
+        for (int neighbor : neighborsOf(node)) {
+            deletedNeighbors[neighbor]++;
+        }
+        contracted[node] = true;
+    }
+
+    private int shortcuts(int node, boolean add) {
+        List<Integer> neighbors = neighborsOf(node);
+        Map<Integer, Integer> around = weights.get(node);
+        int count = 0;
+        for (int i = 0; i < neighbors.size(); i++) {
+            int from = neighbors.get(i);
+            int limit = -1;
+            for (int j = i + 1; j < neighbors.size(); j++) {
+                limit = Math.max(limit, around.get(from) + around.get(neighbors.get(j)));
+            }
+            if (limit < 0) {
+                continue;
+            }
+
+            witnessSearch(from, node, limit);
+            for (int j = i + 1; j < neighbors.size(); j++) {
+                int to = neighbors.get(j);
+                int via = around.get(from) + around.get(to);
+                if (witnessDistance(to) > via) {
+                    count++;
+                    if (add) {
+                        addShortcut(from, to, via, node);
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private void witnessSearch(int source, int excluded, int limit) {
+        if (++witnessStamp == Integer.MAX_VALUE) {
+            Arrays.fill(witnessStamps, 0);
+            witnessStamp = 1;
+        }
+        witnessHeap.clear();
+        witnessStamps[source] = witnessStamp;
+        witnessDistances[source] = 0;
+        witnessHeap.offer(source, 0);
+
+        int settled = 0;
+        while (!witnessHeap.isEmpty() && settled++ < WITNESS_SETTLE_LIMIT) {
+            int node = witnessHeap.poll();
+            int distance = witnessDistances[node];
+            if (distance > limit) {
+                return;
+            }
+            for (Map.Entry<Integer, Integer> edge : weights.get(node).entrySet()) {
+                int next = edge.getKey();
+                if (next == excluded || contracted[next]) {
+                    continue;
+                }
+                int candidate = distance + edge.getValue();
+                if (witnessStamps[next] != witnessStamp || candidate < witnessDistances[next]) {
+                    witnessStamps[next] = witnessStamp;
+                    witnessDistances[next] = candidate;
+                    witnessHeap.offer(next, candidate);
+                }
+            }
+        }
+    }
+
+    private int witnessDistance(int node) {
+        return witnessStamps[node] == witnessStamp ? witnessDistances[node] : Integer.MAX_VALUE;
+    }
+
+    private void addShortcut(int from, int to, int distance, int middle) {
+        Integer current = weights.get(from).get(to);
+        if (current != null && current <= distance) {
+            return;
+        }
+        weights.get(from).put(to, distance);
+        weights.get(to).put(from, distance);
+        middles.put(ContractionHierarchy.pair(from, to), middle);
+    }
+
+    private List<Integer> neighborsOf(int node) {
+        List<Integer> neighbors = new ArrayList<>();
+        for (int neighbor : weights.get(node).keySet()) {
+            if (!contracted[neighbor]) {
+                neighbors.add(neighbor);
+            }
+        }
+        return neighbors;
+    }
+
+    private ContractionHierarchy toHierarchy() {
+        int size = graph.size();
+        int[] offsets = new int[size + 1];
+        for (int node = 0; node < size; node++) {
+            offsets[node + 1] = offsets[node];
+            for (int neighbor : weights.get(node).keySet()) {
+                if (ranks[neighbor] > ranks[node]) {
+                    offsets[node + 1]++;
+                }
+            }
+        }
+
+        int[] targets = new int[offsets[size]];
+        int[] distances = new int[offsets[size]];
+        for (int node = 0; node < size; node++) {
+            int edge = offsets[node];
+            for (Map.Entry<Integer, Integer> neighbor : weights.get(node).entrySet()) {
+                if (ranks[neighbor.getKey()] > ranks[node]) {
+                    targets[edge] = neighbor.getKey();
+                    distances[edge++] = neighbor.getValue();
+                }
+            }
+        }
+        return new ContractionHierarchy(graph, offsets, targets, distances, middles);
+    }
+}
@@ -0,0 +1,159 @@
+package nextstep.subway.path.domain;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+public class ContractionHierarchySearch {
+    private static final int UNREACHABLE = DijkstraSearch.UNREACHABLE;
+
+    private final IntMinHeap forwardHeap = new IntMinHeap(0);
+    private final IntMinHeap backwardHeap = new IntMinHeap(0);
+    private int[] forwardDistances = new int[0];
+    private int[] backwardDistances = new int[0];
+    private int[] forwardParents = new int[0];
+    private int[] backwardParents = new int[0];
+    private int[] forwardStamps = new int[0];
+    private int[] backwardStamps = new int[0];
+    private int stamp;
+    private int best;
+    private int meeting;
+    private int settled;
+
+    public Path findPath(ContractionHierarchy hierarchy, Long sourceId, Long targetId) {
+        if (sourceId.equals(targetId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+        SubwayGraph graph = hierarchy.getGraph();
+        int source = graph.indexOf(sourceId);
+        int target = graph.indexOf(targetId);
+        int distance = search(hierarchy, source, target);
+        if (distance == UNREACHABLE) {
+            throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+        return Path.of(graph, unpack(hierarchy, source, target), distance);
+    }
+
+    public int search(ContractionHierarchy hierarchy, int source, int target) {
+        prepare(hierarchy.size());
+        best = UNREACHABLE;
+        meeting = -1;
+        reach(forwardStamps, forwardDistances, forwardParents, source, 0, -1);
+        forwardHeap.offer(source, 0);
+        reach(backwardStamps, backwardDistances, backwardParents, target, 0, -1);
+        backwardHeap.offer(target, 0);
+
+        while (true) {
+            int forwardKey = forwardHeap.isEmpty() ? UNREACHABLE : forwardHeap.peekKey();
+            int backwardKey = backwardHeap.isEmpty() ? UNREACHABLE : backwardHeap.peekKey();
+            if (Math.min(forwardKey, backwardKey) >= best) {
+                return best;
+            }
+            if (forwardKey <= backwardKey) {
+                settle(hierarchy, forwardHeap, forwardStamps, forwardDistances, forwardParents, backwardStamps, backwardDistances);
+            } else {
+                settle(hierarchy, backwardHeap, backwardStamps, backwardDistances, backwardParents, forwardStamps, forwardDistances);
+            }
+        }
+    }
+
+    private void settle(ContractionHierarchy hierarchy, IntMinHeap heap, int[] stamps, int[] distances, int[] parents,
+                        int[] otherStamps, int[] otherDistances) {
+        int node = heap.poll();
+        int distance = distances[node];
+        settled++;
+        meet(node, distance, otherStamps, otherDistances);
+        for (int edge = hierarchy.edgeStart(node); edge < hierarchy.edgeEnd(node); edge++) {
+            int next = hierarchy.target(edge);
+            int candidate = distance + hierarchy.distance(edge);
+            if (stamps[next] != stamp) {
+                reach(stamps, distances, parents, next, candidate, node);
+                heap.offer(next, candidate);
+            } else if (candidate < distances[next] && heap.contains(next)) {
+                distances[next] = candidate;
+                parents[next] = node;
+                heap.offer(next, candidate);
+            } else {
+                continue;
+            }
+            meet(next, candidate, otherStamps, otherDistances);
+        }
+    }
+
+    private void meet(int node, int distance, int[] otherStamps, int[] otherDistances) {
+        if (otherStamps[node] != stamp) {
+            return;
+        }
+        int total = distance + otherDistances[node];
+        if (total < best) {
+            best = total;
+            meeting = node;
+        }
+    }
+
+    public int settledCount() {
+        return settled;
+    }
+
+    private int[] unpack(ContractionHierarchy hierarchy, int source, int target) {
+        List<Integer> upward = new ArrayList<>();
+        for (int node = meeting; node >= 0; node = forwardParents[node]) {
+            upward.add(node);
+        }
+        List<Integer> nodes = new ArrayList<>();
+        nodes.add(source);
+        for (int i = upward.size() - 1; i > 0; i--) {
+            unpackEdge(hierarchy, upward.get(i), upward.get(i - 1), nodes);
+        }
+        for (int node = meeting; backwardParents[node] >= 0; node = backwardParents[node]) {
+            unpackEdge(hierarchy, node, backwardParents[node], nodes);
+        }
+        return nodes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void unpackEdge(ContractionHierarchy hierarchy, int from, int to, List<Integer> nodes) {
+        Deque<int[]> edges = new ArrayDeque<>();
+        edges.push(new int[]{from, to});
+        while (!edges.isEmpty()) {
+            int[] edge = edges.pop();
+            int middle = hierarchy.middle(edge[0], edge[1]);
+            if (middle < 0) {
+                nodes.add(edge[1]);
+                continue;
+            }
+            edges.push(new int[]{middle, edge[1]});
+            edges.push(new int[]{edge[0], middle});
+        }
+    }
+
+    private void reach(int[] stamps, int[] distances, int[] parents, int node, int distance, int parent) {
+        stamps[node] = stamp;
+        distances[node] = distance;
+        parents[node] = parent;
+    }
+
+    private void prepare(int size) {
+        if (forwardDistances.length < size) {
+            forwardDistances = new int[size];
+            backwardDistances = new int[size];
+            forwardParents = new int[size];
+            backwardParents = new int[size];
+            forwardStamps = new int[size];
+            backwardStamps = new int[size];
+            stamp = 0;
+        }
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(forwardStamps, 0);
+            Arrays.fill(backwardStamps, 0);
+            stamp = 0;
+        }
+        forwardHeap.ensureCapacity(size);
+        forwardHeap.clear();
+        backwardHeap.ensureCapacity(size);
+        backwardHeap.clear();
+        settled = 0;
+        stamp++;
+    }
+}
@@ -0,0 +1,157 @@
+package nextstep.subway.path.domain;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class DijkstraSearch {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    public static final int NOT_CONNECTED = -1;
+
+    private final IntMinHeap heap = new IntMinHeap(0);
+    private int[] distances = new int[0];
+    private int[] previous = new int[0];
+    private int[] extraFares = new int[0];
+    private int[] stamps = new int[0];
+    private int[] order = new int[0];
+    private int stamp;
+    private int settled;
+
+    public Path findPath(SubwayGraph graph, Long sourceId, Long targetId) {
+        if (sourceId.equals(targetId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+        int target = graph.indexOf(targetId);
+        int distance = search(graph, graph.indexOf(sourceId), target);
+        if (distance == UNREACHABLE) {
+            throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+        return Path.of(graph, pathTo(target), distance);
+    }
+
+    public int[] findDistances(SubwayGraph graph, Long sourceId, List<Long> targetIds) {
+        int[] row = new int[targetIds.size()];
+        if (!graph.contains(sourceId)) {
+            Arrays.fill(row, NOT_CONNECTED);
+            return row;
+        }
+        run(graph, graph.indexOf(sourceId), -1);
+        for (int i = 0; i < row.length; i++) {
+            Long targetId = targetIds.get(i);
+            int distance = graph.contains(targetId) ? distanceTo(graph.indexOf(targetId)) : UNREACHABLE;
+            row[i] = distance == UNREACHABLE ? NOT_CONNECTED : distance;
+        }
+        return row;
+    }
+
+    public int[] findReachable(SubwayGraph graph, Long sourceId, int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("거리는 0 이상이어야 합니다.");
+        }
+        int source = graph.indexOf(sourceId);
+        prepare(graph.size());
+        reach(source, 0, -1, 0);
+        heap.offer(source, 0);
+        int count = 0;
+        while (!heap.isEmpty() && heap.peekKey() <= maxDistance) {
+            int node = heap.poll();
+            settled++;
+            order[count++] = node;
+            relax(graph, node);
+        }
+        return Arrays.copyOf(order, count);
+    }
+
+    public int[] distancesFrom(SubwayGraph graph, int source) {
+        run(graph, source, -1);
+        int[] row = new int[graph.size()];
+        for (int node = 0; node < row.length; node++) {
+            row[node] = distanceTo(node);
+        }
+        return row;
+    }
+
+    public int search(SubwayGraph graph, int source, int target) {
+        run(graph, source, target);
+        return distanceTo(target);
+    }
+
+    private void run(SubwayGraph graph, int source, int target) {
+        prepare(graph.size());
+        reach(source, 0, -1, 0);
+        heap.offer(source, 0);
+        while (!heap.isEmpty()) {
+            int node = heap.poll();
+            settled++;
+            if (node == target) {
+                return;
+            }
+            relax(graph, node);
+        }
+    }
+
+    public int settledCount() {
+        return settled;
+    }
+
+    public int distanceTo(int node) {
+        return stamps[node] == stamp ? distances[node] : UNREACHABLE;
+    }
+
+    public int[] pathTo(int target) {
+        if (distanceTo(target) == UNREACHABLE) {
+            return new int[0];
+        }
+        int length = 0;
+        for (int node = target; node >= 0; node = previous[node]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int node = target; node >= 0; node = previous[node]) {
+            path[--length] = node;
+        }
+        return path;
+    }
+
+    private void relax(SubwayGraph graph, int node) {
+        int distance = distances[node];
+        for (int edge = graph.edgeStart(node); edge < graph.edgeEnd(node); edge++) {
+            int next = graph.target(edge);
+            int candidate = distance + graph.distance(edge);
+            int extraFare = Math.max(extraFares[node], graph.extraFare(edge));
+            if (stamps[next] != stamp) {
+                reach(next, candidate, node, extraFare);
+                heap.offer(next, candidate);
+            } else if (heap.contains(next) && (candidate < distances[next]
+                    || candidate == distances[next] && extraFare < extraFares[next])) {
+                reach(next, candidate, node, extraFare);
+                heap.offer(next, candidate);
+            }
+        }
+    }
+
+    private void reach(int node, int distance, int from, int extraFare) {
+        stamps[node] = stamp;
+        distances[node] = distance;
+        previous[node] = from;
+        extraFares[node] = extraFare;
+    }
+
+    private void prepare(int size) {
+        if (distances.length < size) {
+            distances = new int[size];
+            previous = new int[size];
+            extraFares = new int[size];
+            stamps = new int[size];
+            order = new int[size];
+            stamp = 0;
+        }
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            stamp = 0;
+        }
+        heap.ensureCapacity(size);
+        heap.clear();
+        settled = 0;
+        stamp++;
+    }
+}
@@ -0,0 +1,50 @@
+package nextstep.subway.path.domain;
+
+public class FareTable {
+    public static final int BASE_FARE = 1250;
+    private static final int BASE_DISTANCE = 10;
+    private static final int MIDDLE_DISTANCE = 50;
+    private static final int MIDDLE_UNIT_DISTANCE = 5;
+    private static final int LONG_UNIT_DISTANCE = 8;
+    private static final int UNIT_FARE = 100;
+    private static final int MAX_TABLE_SIZE = 1 << 16;
+
+    private final int[] distanceFares;
+
+    private FareTable(int[] distanceFares) {
+        this.distanceFares = distanceFares;
+    }
+
+    public static FareTable of(long maxDistance) {
+        int[] distanceFares = new int[(int) Math.min(maxDistance + 1, MAX_TABLE_SIZE)];
+        for (int distance = 0; distance < distanceFares.length; distance++) {
+            distanceFares[distance] = calculate(distance);
+        }
+        return new FareTable(distanceFares);
+    }
+
+    public int fare(int distance, int extraFare) {
+        return distanceFare(distance) + extraFare;
+    }
+
+    public int distanceFare(int distance) {
+        if (distance < distanceFares.length) {
+            return distanceFares[distance];
+        }
+        return calculate(distance);
+    }
+
+    static int calculate(int distance) {
+        if (distance <= BASE_DISTANCE) {
+            return BASE_FARE;
+        }
+        if (distance <= MIDDLE_DISTANCE) {
+            return BASE_FARE + units(distance - BASE_DISTANCE, MIDDLE_UNIT_DISTANCE) * UNIT_FARE;
+        }
+        return calculate(MIDDLE_DISTANCE) + units(distance - MIDDLE_DISTANCE, LONG_UNIT_DISTANCE) * UNIT_FARE;
+    }
+
+    private static int units(int distance, int unitDistance) {
+        return (distance - 1) / unitDistance + 1;
+    }
+}
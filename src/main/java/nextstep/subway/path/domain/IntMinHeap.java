@@ -0,0 +1,103 @@
+package nextstep.subway.path.domain;
+
+public class IntMinHeap {
+    private int[] nodes;
+    private int[] keys;
+    private int[] positions;
+    private int size;
+
+    public IntMinHeap(int capacity) {
+        nodes = new int[capacity];
+        keys = new int[capacity];
+        positions = new int[capacity];
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (capacity <= nodes.length) {
+            return;
+        }
+        nodes = new int[capacity];
+        keys = new int[capacity];
+        positions = new int[capacity];
+        size = 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int node) {
+        int position = positions[node];
+        return position < size && nodes[position] == node;
+    }
+
+    public int peekKey() {
+        return keys[nodes[0]];
+    }
+
+    public void offer(int node, int key) {
+        if (contains(node)) {
+            if (key < keys[node]) {
+                keys[node] = key;
+                siftUp(positions[node]);
+            }
+            return;
+        }
+        keys[node] = key;
+        nodes[size] = node;
+        positions[node] = size;
+        siftUp(size++);
+    }
+
+    public int poll() {
+        int node = nodes[0];
+        size--;
+        if (size > 0) {
+            move(nodes[size], 0);
+            siftDown(0);
+        }
+        return node;
+    }
+
+    private void siftUp(int position) {
+        int node = nodes[position];
+        int key = keys[node];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (keys[nodes[parent]] <= key) {
+                break;
+            }
+            move(nodes[parent], position);
+            position = parent;
+        }
+        move(node, position);
+    }
+
+    private void siftDown(int position) {
+        int node = nodes[position];
+        int key = keys[node];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && keys[nodes[right]] < keys[nodes[child]]) {
+                child = right;
+            }
+            if (key <= keys[nodes[child]]) {
+                break;
+            }
+            move(nodes[child], position);
+            position = child;
+        }
+        move(node, position);
+    }
+
+    private void move(int node, int position) {
+        nodes[position] = node;
+        positions[node] = position;
+    }
+}
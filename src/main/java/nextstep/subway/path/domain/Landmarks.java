@@ -0,0 +1,88 @@
+package nextstep.subway.path.domain;
+
+import java.util.Arrays;
+
+public class Landmarks {
+    private final SubwayGraph graph;
+    private final int[] landmarks;
+    private final int[][] distances;
+
+    private Landmarks(SubwayGraph graph, int[] landmarks, int[][] distances) {
+        this.graph = graph;
+        this.landmarks = landmarks;
+        this.distances = distances;
+    }
+
+    public static Landmarks of(SubwayGraph graph, int count) {
+        int size = Math.min(count, graph.size());
+        int[] landmarks = new int[size];
+        int[][] distances = new int[size][];
+        long[] nearest = new long[graph.size()];
+        Arrays.fill(nearest, Long.MAX_VALUE);
+
+        if (size == 0) {
+            return new Landmarks(graph, landmarks, distances);
+        }
+
+        DijkstraSearch search = new DijkstraSearch();
+        int start = 0;
+        while (start < graph.size() - 1 && !connected(graph, start)) {
+            start++;
+        }
+        int next = farthest(search.distancesFrom(graph, start), start);
+        for (int i = 0; i < size; i++) {
+            landmarks[i] = next;
+            distances[i] = search.distancesFrom(graph, next);
+            for (int node = 0; node < graph.size(); node++) {
+                nearest[node] = Math.min(nearest[node], distances[i][node]);
+            }
+            for (int node = 0; node < graph.size(); node++) {
+                if (connected(graph, node) && nearest[node] > nearest[next]) {
+                    next = node;
+                }
+            }
+        }
+        return new Landmarks(graph, landmarks, distances);
+    }
+
+    private static int farthest(int[] distances, int start) {
+        int farthest = start;
+        for (int node = 0; node < distances.length; node++) {
+            if (distances[node] != DijkstraSearch.UNREACHABLE && distances[node] > distances[farthest]) {
+                farthest = node;
+            }
+        }
+        return farthest;
+    }
+
+    private static boolean connected(SubwayGraph graph, int node) {
+        return graph.edgeEnd(node) > graph.edgeStart(node);
+    }
+
+    public SubwayGraph getGraph() {
+        return graph;
+    }
+
+    public long getVersion() {
+        return graph.getVersion();
+    }
+
+    public int size() {
+        return landmarks.length;
+    }
+
+    public Long stationIdAt(int landmark) {
+        return graph.station(landmarks[landmark]).getId();
+    }
+
+    public int lowerBound(int from, int to) {
+        int bound = 0;
+        for (int[] row : distances) {
+            if (row[from] == DijkstraSearch.UNREACHABLE || row[to] == DijkstraSearch.UNREACHABLE) {
+                continue;
+            }
+            bound = Math.max(bound, Math.abs(row[to] - row[from]));
+        }
+        return bound;
+    }
+}
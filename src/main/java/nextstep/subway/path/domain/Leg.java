@@ -0,0 +1,39 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.station.domain.Station;
+
+import java.util.Collections;
+import java.util.List;
+
+public class Leg {
+    private final Line line;
+    private final List<Station> stations;
+    private final int distance;
+
+    public Leg(Line line, List<Station> stations, int distance) {
+        this.line = line;
+        this.stations = Collections.unmodifiableList(stations);
+        this.distance = distance;
+    }
+
+    public Line getLine() {
+        return line;
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+
+    public Station getDepartureStation() {
+        return stations.get(0);
+    }
+
+    public Station getArrivalStation() {
+        return stations.get(stations.size() - 1);
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,239 @@
+package nextstep.subway.path.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class MultiCriteriaSearch {
+    private static final int NO_LINE = -1;
+    private static final int NO_EDGE = -1;
+
+    private int[] labelNodes = new int[16];
+    private int[] labelLines = new int[16];
+    private int[] labelEdges = new int[16];
+    private int[] labelDistances = new int[16];
+    private int[] labelTransfers = new int[16];
+    private int[] labelParents = new int[16];
+    private int labelCount;
+
+    private int[] heap = new int[16];
+    private int heapSize;
+    private boolean transfersFirst;
+
+    private int[] bags = new int[0];
+    private int[] bagCounts = new int[0];
+    private int[] bagStamps = new int[0];
+    private int[] stateStamps = new int[0];
+    private int stamp;
+    private int settled;
+
+    public Path findMinTransferPath(SubwayGraph graph, Long sourceId, Long targetId) {
+        validate(sourceId, targetId);
+        int target = graph.indexOf(targetId);
+        prepare(graph, 0, true);
+        push(graph.indexOf(sourceId), NO_LINE, NO_EDGE, 0, 0, -1);
+        while (heapSize > 0) {
+            int label = poll();
+            int edge = labelEdges[label];
+            if (edge != NO_EDGE && stateStamps[graph.state(edge)] == stamp) {
+                continue;
+            }
+            if (edge != NO_EDGE) {
+                stateStamps[graph.state(edge)] = stamp;
+            }
+            settled++;
+            if (labelNodes[label] == target) {
+                return toPath(graph, label);
+            }
+            expand(graph, label, true);
+        }
+        throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+    }
+
+    public List<Path> findParetoPaths(SubwayGraph graph, Long sourceId, Long targetId, int maxLabels) {
+        validate(sourceId, targetId);
+        int target = graph.indexOf(targetId);
+        prepare(graph, maxLabels, false);
+        push(graph.indexOf(sourceId), NO_LINE, NO_EDGE, 0, 0, -1);
+        List<Integer> results = new ArrayList<>();
+        while (heapSize > 0) {
+            int label = poll();
+            if (dominatedAtTarget(results, label)) {
+                continue;
+            }
+            int node = labelNodes[label];
+            if (node == target) {
+                results.add(label);
+                continue;
+            }
+            if (dominatedAt(node, label, maxLabels) || bagCount(node) >= maxLabels) {
+                continue;
+            }
+            bags[node * maxLabels + bagCounts[node]++] = label;
+            settled++;
+            expand(graph, label, false);
+        }
+        if (results.isEmpty()) {
+            throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+        List<Path> paths = new ArrayList<>(results.size());
+        for (int label : results) {
+            paths.add(toPath(graph, label));
+        }
+        return paths;
+    }
+
+    public int settledCount() {
+        return settled;
+    }
+
+    private void validate(Long sourceId, Long targetId) {
+        if (sourceId.equals(targetId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+    }
+
+    private void expand(SubwayGraph graph, int label, boolean skipSettledStates) {
+        int node = labelNodes[label];
+        int line = labelLines[label];
+        for (int edge = graph.edgeStart(node); edge < graph.edgeEnd(node); edge++) {
+            if (skipSettledStates && stateStamps[graph.state(edge)] == stamp) {
+                continue;
+            }
+            int nextLine = graph.line(edge);
+            int transfers = labelTransfers[label] + (line == NO_LINE || line == nextLine ? 0 : 1);
+            push(graph.target(edge), nextLine, edge, labelDistances[label] + graph.distance(edge), transfers, label);
+        }
+    }
+
+    private boolean dominatedAtTarget(List<Integer> results, int label) {
+        for (int result : results) {
+            if (labelDistances[result] <= labelDistances[label] && labelTransfers[result] <= labelTransfers[label]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean dominatedAt(int node, int label, int maxLabels) {
+        int count = bagCount(node);
+        for (int i = 0; i < count; i++) {
+            int other = bags[node * maxLabels + i];
+            int penalty = labelLines[other] == NO_LINE || labelLines[other] == labelLines[label] ? 0 : 1;
+            if (labelDistances[other] <= labelDistances[label] && labelTransfers[other] + penalty <= labelTransfers[label]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int bagCount(int node) {
+        if (bagStamps[node] != stamp) {
+            bagStamps[node] = stamp;
+            bagCounts[node] = 0;
+        }
+        return bagCounts[node];
+    }
+
+    private Path toPath(SubwayGraph graph, int label) {
+        int length = 0;
+        for (int current = label; current >= 0; current = labelParents[current]) {
+            length++;
+        }
+        int[] nodes = new int[length];
+        int[] edges = new int[length - 1];
+        for (int current = label; current >= 0; current = labelParents[current]) {
+            nodes[--length] = labelNodes[current];
+            if (length > 0) {
+                edges[length - 1] = labelEdges[current];
+            }
+        }
+        return Path.of(graph, nodes, labelDistances[label], edges);
+    }
+
+    private void push(int node, int line, int edge, int distance, int transfers, int parent) {
+        if (labelCount == labelNodes.length) {
+            int capacity = labelCount * 2;
+            labelNodes = Arrays.copyOf(labelNodes, capacity);
+            labelLines = Arrays.copyOf(labelLines, capacity);
+            labelEdges = Arrays.copyOf(labelEdges, capacity);
+            labelDistances = Arrays.copyOf(labelDistances, capacity);
+            labelTransfers = Arrays.copyOf(labelTransfers, capacity);
+            labelParents = Arrays.copyOf(labelParents, capacity);
+            heap = Arrays.copyOf(heap, capacity);
+        }
+        int label = labelCount++;
+        labelNodes[label] = node;
+        labelLines[label] = line;
+        labelEdges[label] = edge;
+        labelDistances[label] = distance;
+        labelTransfers[label] = transfers;
+        labelParents[label] = parent;
+
+        int index = heapSize++;
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            if (!before(label, heap[parentIndex])) {
+                break;
+            }
+            heap[index] = heap[parentIndex];
+            index = parentIndex;
+        }
+        heap[index] = label;
+    }
+
+    private int poll() {
+        int first = heap[0];
+        int last = heap[--heapSize];
+        int index = 0;
+        while (true) {
+            int child = index * 2 + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(heap[child], last)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        if (heapSize > 0) {
+            heap[index] = last;
+        }
+        return first;
+    }
+
+    private boolean before(int label, int other) {
+        int distance = Integer.compare(labelDistances[label], labelDistances[other]);
+        int transfers = Integer.compare(labelTransfers[label], labelTransfers[other]);
+        if (transfersFirst) {
+            return transfers < 0 || transfers == 0 && distance < 0;
+        }
+        return distance < 0 || distance == 0 && transfers < 0;
+    }
+
+    private void prepare(SubwayGraph graph, int maxLabels, boolean transfersFirst) {
+        this.transfersFirst = transfersFirst;
+        labelCount = 0;
+        heapSize = 0;
+        settled = 0;
+        if (bags.length < graph.size() * maxLabels) {
+            bags = new int[graph.size() * maxLabels];
+        }
+        if (bagStamps.length < graph.size() || stateStamps.length < graph.stateCount()) {
+            bagCounts = new int[graph.size()];
+            bagStamps = new int[graph.size()];
+            stateStamps = new int[graph.stateCount()];
+            stamp = 0;
+        }
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(bagStamps, 0);
+            Arrays.fill(stateStamps, 0);
+            stamp = 0;
+        }
+        stamp++;
+    }
+}
@@ -0,0 +1,66 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.station.domain.Station;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class Path {
+    private final List<Station> stations;
+    private final List<Leg> legs;
+    private final int distance;
+    private final int fare;
+
+    public Path(List<Station> stations, List<Leg> legs, int distance, int fare) {
+        this.stations = Collections.unmodifiableList(stations);
+        this.legs = Collections.unmodifiableList(legs);
+        this.distance = distance;
+        this.fare = fare;
+    }
+
+    public static Path of(SubwayGraph graph, int[] nodes, int distance) {
+        return of(graph, nodes, distance, graph.edges(nodes));
+    }
+
+    public static Path of(SubwayGraph graph, int[] nodes, int distance, int[] edges) {
+        List<Station> stations = new ArrayList<>(nodes.length);
+        List<Leg> legs = new ArrayList<>();
+        int legStart = 0;
+        int legDistance = 0;
+        for (int i = 0; i < nodes.length; i++) {
+            stations.add(graph.station(nodes[i]));
+            if (i == 0) {
+                continue;
+            }
+            int line = graph.line(edges[i - 1]);
+            legDistance += graph.distance(edges[i - 1]);
+            if (i == edges.length || graph.line(edges[i]) != line) {
+                legs.add(new Leg(graph.lineAt(line), new ArrayList<>(stations.subList(legStart, i + 1)), legDistance));
+                legStart = i;
+                legDistance = 0;
+            }
+        }
+        return new Path(stations, legs, distance, graph.fare(distance, graph.extraFare(edges)));
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+
+    public List<Leg> getLegs() {
+        return legs;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+
+    public int getTransfers() {
+        return Math.max(legs.size() - 1, 0);
+    }
+}
@@ -0,0 +1,11 @@
+package nextstep.subway.path.domain;
+
+public enum PathEngine {
+    DIJKSTRA,
+    CH,
+    ALT;
+
+    public static PathEngine of(String name) {
+        return valueOf(name.trim().toUpperCase());
+    }
+}
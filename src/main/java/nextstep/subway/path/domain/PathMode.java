@@ -0,0 +1,11 @@
+package nextstep.subway.path.domain;
+
+public enum PathMode {
+    DISTANCE,
+    MIN_TRANSFER,
+    PARETO;
+
+    public static PathMode of(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+}
@@ -0,0 +1,405 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.station.domain.Station;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SubwayGraph {
+    private final long version;
+    private final Station[] stations;
+    private final Map<Long, Integer> indexes;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] distances;
+    private final int[] edgeLines;
+    private final Line[] lines;
+    private final int[] lineExtraFares;
+    private final int[] stateOffsets;
+    private final int[] stateLines;
+    private final int[] edgeStates;
+    private final FareTable fareTable;
+
+    private SubwayGraph(long version, Station[] stations, Map<Long, Integer> indexes, int[] offsets, int[] targets,
+                        int[] distances, int[] edgeLines, Line[] lines, FareTable fareTable) {
+        this.version = version;
+        this.stations = stations;
+        this.indexes = indexes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.distances = distances;
+        this.edgeLines = edgeLines;
+        this.lines = lines;
+        this.lineExtraFares = new int[lines.length];
+        for (int line = 0; line < lines.length; line++) {
+            lineExtraFares[line] = lines[line].getExtraFare();
+        }
+        this.stateOffsets = new int[stations.length + 1];
+        this.stateLines = new int[targets.length];
+        for (int node = 0; node < stations.length; node++) {
+            int count = stateOffsets[node];
+            for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+                if (findState(node, count, edgeLines[edge]) < 0) {
+                    stateLines[count++] = edgeLines[edge];
+                }
+            }
+            stateOffsets[node + 1] = count;
+        }
+        this.edgeStates = new int[targets.length];
+        for (int edge = 0; edge < targets.length; edge++) {
+            edgeStates[edge] = findState(targets[edge], stateOffsets[targets[edge] + 1], edgeLines[edge]);
+        }
+        this.fareTable = fareTable;
+    }
+
+    private int findState(int node, int end, int line) {
+        for (int state = stateOffsets[node]; state < end; state++) {
+            if (stateLines[state] == line) {
+                return state;
+            }
+        }
+        return -1;
+    }
+
+    public static SubwayGraph of(long version, List<Section> sections) {
+        Map<Long, Integer> indexes = new HashMap<>();
+        List<Station> stations = new ArrayList<>();
+        Map<Object, Integer> lineIndexes = new HashMap<>();
+        List<Line> lines = new ArrayList<>();
+        int[] ups = new int[sections.size()];
+        int[] downs = new int[sections.size()];
+        int[] sectionLines = new int[sections.size()];
+        long totalDistance = 0;
+        for (int i = 0; i < sections.size(); i++) {
+            Section section = sections.get(i);
+            ups[i] = indexOf(section.getUpStation(), indexes, stations);
+            downs[i] = indexOf(section.getDownStation(), indexes, stations);
+            sectionLines[i] = lineIndexOf(section.getLine(), lineIndexes, lines);
+            totalDistance += section.getDistance();
+        }
+
+        int[] offsets = new int[stations.size() + 1];
+        for (int i = 0; i < sections.size(); i++) {
+            offsets[ups[i] + 1]++;
+            offsets[downs[i] + 1]++;
+        }
+        for (int i = 0; i < stations.size(); i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] cursor = new int[stations.size()];
+        System.arraycopy(offsets, 0, cursor, 0, stations.size());
+        int[] targets = new int[sections.size() * 2];
+        int[] distances = new int[sections.size() * 2];
+        int[] edgeLines = new int[sections.size() * 2];
+        for (int i = 0; i < sections.size(); i++) {
+            int distance = sections.get(i).getDistance();
+            int forward = cursor[ups[i]]++;
+            targets[forward] = downs[i];
+            distances[forward] = distance;
+            edgeLines[forward] = sectionLines[i];
+            int backward = cursor[downs[i]]++;
+            targets[backward] = ups[i];
+            distances[backward] = distance;
+            edgeLines[backward] = sectionLines[i];
+        }
+
+        return new SubwayGraph(version, stations.toArray(new Station[0]), indexes, offsets, targets, distances,
+                edgeLines, lines.toArray(new Line[0]), FareTable.of(totalDistance));
+    }
+
+    public SubwayGraph apply(long version, List<Section> removed, List<Section> added) {
+        boolean[] removedEdges = new boolean[targets.length];
+        for (Section section : removed) {
+            Integer up = indexes.get(section.getUpStation().getId());
+            Integer down = indexes.get(section.getDownStation().getId());
+            int line = lineIndexOf(section.getLine());
+            if (up == null || down == null || line < 0) {
+                return null;
+            }
+            int forward = findEdge(up, down, line, section.getDistance(), removedEdges);
+            int backward = findEdge(down, up, line, section.getDistance(), removedEdges);
+            if (forward < 0 || backward < 0) {
+                return null;
+            }
+            removedEdges[forward] = true;
+            removedEdges[backward] = true;
+        }
+
+        for (Section section : added) {
+            Integer up = indexes.get(section.getUpStation().getId());
+            Integer down = indexes.get(section.getDownStation().getId());
+            int line = lineIndexOf(section.getLine());
+            if (up != null && down != null && line >= 0 && findEdge(up, down, line, -1, removedEdges) >= 0) {
+                return null;
+            }
+        }
+
+        Map<Long, Integer> patchedIndexes = indexes;
+        List<Station> patchedStations = new ArrayList<>(Arrays.asList(stations));
+        List<Line> patchedLines = new ArrayList<>(Arrays.asList(lines));
+        int[] ups = new int[added.size()];
+        int[] downs = new int[added.size()];
+        int[] addedLines = new int[added.size()];
+        for (int i = 0; i < added.size(); i++) {
+            Section section = added.get(i);
+            if (!patchedIndexes.containsKey(section.getUpStation().getId())
+                    || !patchedIndexes.containsKey(section.getDownStation().getId())) {
+                patchedIndexes = patchedIndexes == indexes ? new HashMap<>(indexes) : patchedIndexes;
+            }
+            ups[i] = indexOf(section.getUpStation(), patchedIndexes, patchedStations);
+            downs[i] = indexOf(section.getDownStation(), patchedIndexes, patchedStations);
+            addedLines[i] = lineIndexOf(section.getLine(), patchedLines);
+        }
+
+        int size = patchedStations.size();
+        int[] patchedOffsets = new int[size + 1];
+        for (int node = 0; node < stations.length; node++) {
+            for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+                if (!removedEdges[edge]) {
+                    patchedOffsets[node + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < added.size(); i++) {
+            patchedOffsets[ups[i] + 1]++;
+            patchedOffsets[downs[i] + 1]++;
+        }
+        for (int node = 0; node < size; node++) {
+            patchedOffsets[node + 1] += patchedOffsets[node];
+        }
+
+        int edges = patchedOffsets[size];
+        int[] cursor = Arrays.copyOf(patchedOffsets, size);
+        int[] patchedTargets = new int[edges];
+        int[] patchedDistances = new int[edges];
+        int[] patchedEdgeLines = new int[edges];
+        for (int node = 0; node < stations.length; node++) {
+            for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+                if (removedEdges[edge]) {
+                    continue;
+                }
+                int next = cursor[node]++;
+                patchedTargets[next] = targets[edge];
+                patchedDistances[next] = distances[edge];
+                patchedEdgeLines[next] = edgeLines[edge];
+            }
+        }
+        for (int i = 0; i < added.size(); i++) {
+            int distance = added.get(i).getDistance();
+            int forward = cursor[ups[i]]++;
+            patchedTargets[forward] = downs[i];
+            patchedDistances[forward] = distance;
+            patchedEdgeLines[forward] = addedLines[i];
+            int backward = cursor[downs[i]]++;
+            patchedTargets[backward] = ups[i];
+            patchedDistances[backward] = distance;
+            patchedEdgeLines[backward] = addedLines[i];
+        }
+
+        return new SubwayGraph(version, patchedStations.toArray(new Station[0]), patchedIndexes, patchedOffsets,
+                patchedTargets, patchedDistances, patchedEdgeLines, patchedLines.toArray(new Line[0]), fareTable);
+    }
+
+    private int findEdge(int from, int to, int line, int distance, boolean[] removedEdges) {
+        for (int edge = offsets[from]; edge < offsets[from + 1]; edge++) {
+            if (!removedEdges[edge] && targets[edge] == to && edgeLines[edge] == line
+                    && (distance < 0 || distances[edge] == distance)) {
+                return edge;
+            }
+        }
+        return -1;
+    }
+
+    private int lineIndexOf(Line line) {
+        for (int index = 0; index < lines.length; index++) {
+            if (lineKey(lines[index]).equals(lineKey(line))) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static int lineIndexOf(Line line, List<Line> lines) {
+        for (int index = 0; index < lines.size(); index++) {
+            if (lineKey(lines.get(index)).equals(lineKey(line))) {
+                return index;
+            }
+        }
+        lines.add(line);
+        return lines.size() - 1;
+    }
+
+    private static Object lineKey(Line line) {
+        return line.getId() == null ? line : line.getId();
+    }
+
+    private static int lineIndexOf(Line line, Map<Object, Integer> lineIndexes, List<Line> lines) {
+        Integer index = lineIndexes.get(lineKey(line));
+        if (index != null) {
+            return index;
+        }
+        lineIndexes.put(lineKey(line), lines.size());
+        lines.add(line);
+        return lines.size() - 1;
+    }
+
+    private static int indexOf(Station station, Map<Long, Integer> indexes, List<Station> stations) {
+        Integer index = indexes.get(station.getId());
+        if (index != null) {
+            return index;
+        }
+        indexes.put(station.getId(), stations.size());
+        stations.add(station);
+        return stations.size() - 1;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return stations.length;
+    }
+
+    public boolean contains(Long stationId) {
+        return indexes.containsKey(stationId);
+    }
+
+    public int indexOf(Long stationId) {
+        Integer index = indexes.get(stationId);
+        if (index == null) {
+            throw new IllegalArgumentException("노선에 등록되지 않은 역입니다.");
+        }
+        return index;
+    }
+
+    public Station station(int index) {
+        return stations[index];
+    }
+
+    public int edgeStart(int node) {
+        return offsets[node];
+    }
+
+    public int edgeEnd(int node) {
+        return offsets[node + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int distance(int edge) {
+        return distances[edge];
+    }
+
+    public int line(int edge) {
+        return edgeLines[edge];
+    }
+
+    public Line lineAt(int line) {
+        return lines[line];
+    }
+
+    public int stateCount() {
+        return stateOffsets[stations.length];
+    }
+
+    public int state(int edge) {
+        return edgeStates[edge];
+    }
+
+    public int extraFare(int edge) {
+        return lineExtraFares[edgeLines[edge]];
+    }
+
+    public int extraFare(int[] edges) {
+        int extraFare = 0;
+        for (int edge : edges) {
+            extraFare = Math.max(extraFare, extraFare(edge));
+        }
+        return extraFare;
+    }
+
+    public int[] edges(int[] nodes) {
+        int hops = Math.max(nodes.length - 1, 0);
+        int capacity = 0;
+        for (int i = 0; i < hops; i++) {
+            capacity += offsets[nodes[i] + 1] - offsets[nodes[i]];
+        }
+        int[] starts = new int[hops + 1];
+        int[] candidates = new int[capacity];
+        int count = 0;
+        for (int i = 0; i < hops; i++) {
+            starts[i] = count;
+            int distance = distance(edgeBetween(nodes[i], nodes[i + 1]));
+            for (int edge = offsets[nodes[i]]; edge < offsets[nodes[i] + 1]; edge++) {
+                if (targets[edge] == nodes[i + 1] && distances[edge] == distance) {
+                    candidates[count++] = edge;
+                }
+            }
+        }
+        starts[hops] = count;
+
+        int[] transfers = new int[count];
+        int[] extraFares = new int[count];
+        int[] parents = new int[count];
+        for (int candidate = 0; candidate < starts[Math.min(1, hops)]; candidate++) {
+            extraFares[candidate] = extraFare(candidates[candidate]);
+        }
+        for (int i = 1; i < hops; i++) {
+            for (int candidate = starts[i]; candidate < starts[i + 1]; candidate++) {
+                transfers[candidate] = Integer.MAX_VALUE;
+                int extraFare = extraFare(candidates[candidate]);
+                for (int parent = starts[i - 1]; parent < starts[i]; parent++) {
+                    int transfer = transfers[parent] + (edgeLines[candidates[parent]] == edgeLines[candidates[candidate]] ? 0 : 1);
+                    int fare = Math.max(extraFares[parent], extraFare);
+                    if (transfer < transfers[candidate] || transfer == transfers[candidate] && fare < extraFares[candidate]) {
+                        transfers[candidate] = transfer;
+                        extraFares[candidate] = fare;
+                        parents[candidate] = parent;
+                    }
+                }
+            }
+        }
+
+        int[] edges = new int[hops];
+        if (hops == 0) {
+            return edges;
+        }
+        // 환승이 같다면 추가 요금이 낮은 노선을 고른다. 요금도 이 간선들로 계산된다.
+        int best = starts[hops - 1];
+        for (int candidate = best + 1; candidate < count; candidate++) {
+            if (transfers[candidate] < transfers[best]
+                    || transfers[candidate] == transfers[best] && extraFares[candidate] < extraFares[best]) {
+                best = candidate;
+            }
+        }
+        for (int i = hops - 1; i >= 0; i--) {
+            edges[i] = candidates[best];
+            best = parents[best];
+        }
+        return edges;
+    }
+
+    public int edgeBetween(int from, int to) {
+        int found = -1;
+        for (int edge = offsets[from]; edge < offsets[from + 1]; edge++) {
+            if (targets[edge] == to && (found < 0 || distances[edge] < distances[found]
+                    || distances[edge] == distances[found] && extraFare(edge) < extraFare(found))) {
+                found = edge;
+            }
+        }
+        return found;
+    }
+
+    public int fare(int distance, int extraFare) {
+        return fareTable.fare(distance, extraFare);
+    }
+}
@@ -0,0 +1,217 @@
+package nextstep.subway.path.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+public class YenSearch {
+    private static final int UNREACHABLE = DijkstraSearch.UNREACHABLE;
+    private static final Comparator<Route> ROUTE_ORDER = Comparator.comparingInt((Route route) -> route.distance)
+            .thenComparingInt(route -> route.nodes.length)
+            .thenComparing(route -> route.nodes, YenSearch::compareNodes);
+
+    private final DijkstraSearch dijkstra = new DijkstraSearch();
+    private final IntMinHeap heap = new IntMinHeap(0);
+    private int[] distances = new int[0];
+    private int[] previous = new int[0];
+    private int[] stamps = new int[0];
+    private int[] blockedNodes = new int[0];
+    private int[] blockedEdges = new int[0];
+    private int[] remaining = new int[0];
+    private int stamp;
+    private int settled;
+
+    public List<Path> findPaths(SubwayGraph graph, Long sourceId, Long targetId, int k) {
+        if (sourceId.equals(targetId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+        int source = graph.indexOf(sourceId);
+        int target = graph.indexOf(targetId);
+        List<Route> routes = search(graph, source, target, k);
+        if (routes.isEmpty()) {
+            throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+        List<Path> paths = new ArrayList<>(routes.size());
+        for (Route route : routes) {
+            paths.add(Path.of(graph, route.nodes, route.distance));
+        }
+        return paths;
+    }
+
+    public int settledCount() {
+        return settled;
+    }
+
+    private List<Route> search(SubwayGraph graph, int source, int target, int k) {
+        settled = 0;
+        List<Route> routes = new ArrayList<>(k);
+        int distance = dijkstra.search(graph, source, target);
+        settled += dijkstra.settledCount();
+        if (distance == UNREACHABLE) {
+            return routes;
+        }
+        routes.add(new Route(dijkstra.pathTo(target), distance));
+        remaining = dijkstra.distancesFrom(graph, target);
+        settled += dijkstra.settledCount();
+
+        TreeSet<Route> candidates = new TreeSet<>(ROUTE_ORDER);
+        while (routes.size() < k) {
+            int needed = k - routes.size();
+            Route last = routes.get(routes.size() - 1);
+            int rootDistance = 0;
+            for (int spur = 0; spur < last.nodes.length - 1; spur++) {
+                int bound = candidates.size() >= needed ? candidates.last().distance : UNREACHABLE;
+                if (rootDistance <= bound) {
+                    Route candidate = spur(graph, routes, last, spur, rootDistance, target, bound);
+                    if (candidate != null && candidates.add(candidate) && candidates.size() > needed) {
+                        candidates.pollLast();
+                    }
+                }
+                rootDistance += edgeDistance(graph, last.nodes[spur], last.nodes[spur + 1]);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            routes.add(candidates.pollFirst());
+        }
+        return routes;
+    }
+
+    private Route spur(SubwayGraph graph, List<Route> routes, Route last, int spur, int rootDistance, int target, int bound) {
+        prepare(graph);
+        int spurNode = last.nodes[spur];
+        for (int i = 0; i < spur; i++) {
+            blockedNodes[last.nodes[i]] = stamp;
+        }
+        for (Route route : routes) {
+            if (route.nodes.length > spur + 1 && sharesRoot(route, last, spur)) {
+                blockEdges(graph, spurNode, route.nodes[spur + 1]);
+            }
+        }
+
+        int limit = bound == UNREACHABLE ? UNREACHABLE : bound - rootDistance;
+        int distance = restrictedSearch(graph, spurNode, target, limit);
+        if (distance == UNREACHABLE) {
+            return null;
+        }
+
+        int length = spur;
+        for (int node = target; node >= 0; node = previous[node]) {
+            length++;
+        }
+        int[] nodes = Arrays.copyOf(last.nodes, length);
+        for (int node = target; node >= 0; node = previous[node]) {
+            nodes[--length] = node;
+        }
+        return new Route(nodes, rootDistance + distance);
+    }
+
+    private int restrictedSearch(SubwayGraph graph, int source, int target, int limit) {
+        reach(source, 0, -1);
+        heap.offer(source, remaining[source]);
+        while (!heap.isEmpty() && heap.peekKey() <= limit) {
+            int node = heap.poll();
+            settled++;
+            if (node == target) {
+                return distances[node];
+            }
+            for (int edge = graph.edgeStart(node); edge < graph.edgeEnd(node); edge++) {
+                int next = graph.target(edge);
+                if (blockedEdges[edge] == stamp || blockedNodes[next] == stamp || remaining[next] == UNREACHABLE) {
+                    continue;
+                }
+                int candidate = distances[node] + graph.distance(edge);
+                if (stamps[next] != stamp) {
+                    reach(next, candidate, node);
+                    heap.offer(next, candidate + remaining[next]);
+                } else if (candidate < distances[next] && heap.contains(next)) {
+                    distances[next] = candidate;
+                    previous[next] = node;
+                    heap.offer(next, candidate + remaining[next]);
+                }
+            }
+        }
+        return UNREACHABLE;
+    }
+
+    private void blockEdges(SubwayGraph graph, int from, int to) {
+        for (int edge = graph.edgeStart(from); edge < graph.edgeEnd(from); edge++) {
+            if (graph.target(edge) == to) {
+                blockedEdges[edge] = stamp;
+            }
+        }
+    }
+
+    private static int edgeDistance(SubwayGraph graph, int from, int to) {
+        int distance = UNREACHABLE;
+        for (int edge = graph.edgeStart(from); edge < graph.edgeEnd(from); edge++) {
+            if (graph.target(edge) == to) {
+                distance = Math.min(distance, graph.distance(edge));
+            }
+        }
+        return distance;
+    }
+
+    private static boolean sharesRoot(Route route, Route other, int spur) {
+        for (int i = 0; i <= spur; i++) {
+            if (route.nodes[i] != other.nodes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int compareNodes(int[] nodes, int[] others) {
+        for (int i = 0; i < Math.min(nodes.length, others.length); i++) {
+            if (nodes[i] != others[i]) {
+                return Integer.compare(nodes[i], others[i]);
+            }
+        }
+        return Integer.compare(nodes.length, others.length);
+    }
+
+    private void reach(int node, int distance, int from) {
+        stamps[node] = stamp;
+        distances[node] = distance;
+        previous[node] = from;
+    }
+
+    private void prepare(SubwayGraph graph) {
+        int size = graph.size();
+        int edges = size == 0 ? 0 : graph.edgeEnd(size - 1);
+        if (distances.length < size) {
+            distances = new int[size];
+            previous = new int[size];
+            stamps = new int[size];
+            blockedNodes = new int[size];
+            stamp = 0;
+        }
+        if (blockedEdges.length < edges) {
+            blockedEdges = new int[edges];
+            Arrays.fill(stamps, 0);
+            Arrays.fill(blockedNodes, 0);
+            stamp = 0;
+        }
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            Arrays.fill(blockedNodes, 0);
+            Arrays.fill(blockedEdges, 0);
+            stamp = 0;
+        }
+        heap.ensureCapacity(size);
+        heap.clear();
+        stamp++;
+    }
+
+    private static class Route {
+        private final int[] nodes;
+        private final int distance;
+
+        private Route(int[] nodes, int distance) {
+            this.nodes = nodes;
+            this.distance = distance;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package nextstep.subway.path.dto;
+
+import java.util.List;
+
+public class DistanceMatrixRequest {
+    private List<Long> sources;
+    private List<Long> targets;
+
+    public DistanceMatrixRequest() {
+    }
+
+    public DistanceMatrixRequest(List<Long> sources, List<Long> targets) {
+        this.sources = sources;
+        this.targets = targets;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+}
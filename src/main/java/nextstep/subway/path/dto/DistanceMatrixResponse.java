@@ -0,0 +1,30 @@
+package nextstep.subway.path.dto;
+
+import java.util.List;
+
+public class DistanceMatrixResponse {
+    private List<Long> sources;
+    private List<Long> targets;
+    private int[][] distances;
+
+    public DistanceMatrixResponse() {
+    }
+
+    public DistanceMatrixResponse(List<Long> sources, List<Long> targets, int[][] distances) {
+        this.sources = sources;
+        this.targets = targets;
+        this.distances = distances;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+
+    public int[][] getDistances() {
+        return distances;
+    }
+}
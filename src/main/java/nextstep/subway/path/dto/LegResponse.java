@@ -0,0 +1,47 @@
+package nextstep.subway.path.dto;
+
+import nextstep.subway.path.domain.Leg;
+import nextstep.subway.station.dto.StationResponse;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class LegResponse {
+    private Long lineId;
+    private String lineName;
+    private List<StationResponse> stations;
+    private int distance;
+
+    public LegResponse() {
+    }
+
+    public LegResponse(Long lineId, String lineName, List<StationResponse> stations, int distance) {
+        this.lineId = lineId;
+        this.lineName = lineName;
+        this.stations = stations;
+        this.distance = distance;
+    }
+
+    public static LegResponse of(Leg leg) {
+        List<StationResponse> stations = leg.getStations().stream()
+                .map(StationResponse::of)
+                .collect(Collectors.toList());
+        return new LegResponse(leg.getLine().getId(), leg.getLine().getName(), stations, leg.getDistance());
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public String getLineName() {
+        return lineName;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
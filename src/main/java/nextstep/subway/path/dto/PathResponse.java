@@ -0,0 +1,61 @@
+package nextstep.subway.path.dto;
+
+import nextstep.subway.path.domain.AgeDiscount;
+import nextstep.subway.path.domain.Path;
+import nextstep.subway.station.dto.StationResponse;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class PathResponse {
+    private List<StationResponse> stations;
+    private List<LegResponse> legs;
+    private int distance;
+    private int fare;
+    private int transfers;
+
+    public PathResponse() {
+    }
+
+    public PathResponse(List<StationResponse> stations, List<LegResponse> legs, int distance, int fare, int transfers) {
+        this.stations = stations;
+        this.legs = legs;
+        this.distance = distance;
+        this.fare = fare;
+        this.transfers = transfers;
+    }
+
+    public static PathResponse of(Path path) {
+        List<StationResponse> stations = path.getStations().stream()
+                .map(StationResponse::of)
+                .collect(Collectors.toList());
+        List<LegResponse> legs = path.getLegs().stream()
+                .map(LegResponse::of)
+                .collect(Collectors.toList());
+        return new PathResponse(stations, legs, path.getDistance(), path.getFare(), path.getTransfers());
+    }
+
+    public PathResponse discount(Integer age) {
+        return new PathResponse(stations, legs, distance, AgeDiscount.apply(fare, age), transfers);
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public List<LegResponse> getLegs() {
+        return legs;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+
+    public int getTransfers() {
+        return transfers;
+    }
+}
@@ -0,0 +1,18 @@
+package nextstep.subway.path.dto;
+
+import java.util.List;
+
+public class PathsResponse {
+    private List<PathResponse> paths;
+
+    public PathsResponse() {
+    }
+
+    public PathsResponse(List<PathResponse> paths) {
+        this.paths = paths;
+    }
+
+    public List<PathResponse> getPaths() {
+        return paths;
+    }
+}
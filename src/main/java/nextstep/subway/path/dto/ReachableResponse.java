@@ -0,0 +1,30 @@
+package nextstep.subway.path.dto;
+
+import java.util.List;
+
+public class ReachableResponse {
+    private Long source;
+    private int maxDistance;
+    private List<ReachableStationResponse> stations;
+
+    public ReachableResponse() {
+    }
+
+    public ReachableResponse(Long source, int maxDistance, List<ReachableStationResponse> stations) {
+        this.source = source;
+        this.maxDistance = maxDistance;
+        this.stations = stations;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    public List<ReachableStationResponse> getStations() {
+        return stations;
+    }
+}
@@ -0,0 +1,34 @@
+package nextstep.subway.path.dto;
+
+import nextstep.subway.station.domain.Station;
+
+public class ReachableStationResponse {
+    private Long id;
+    private String name;
+    private int distance;
+
+    public static ReachableStationResponse of(Station station, int distance) {
+        return new ReachableStationResponse(station.getId(), station.getName(), distance);
+    }
+
+    public ReachableStationResponse() {
+    }
+
+    public ReachableStationResponse(Long id, String name, int distance) {
+        this.id = id;
+        this.name = name;
+        this.distance = distance;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
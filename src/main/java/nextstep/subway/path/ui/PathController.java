@@ -0,0 +1,55 @@
+package nextstep.subway.path.ui;
+
+import nextstep.subway.auth.domain.AuthenticationPrincipal;
+import nextstep.subway.auth.domain.LoginMember;
+import nextstep.subway.path.application.PathService;
+import nextstep.subway.path.domain.PathMode;
+import nextstep.subway.path.dto.DistanceMatrixRequest;
+import nextstep.subway.path.dto.DistanceMatrixResponse;
+import nextstep.subway.path.dto.PathsResponse;
+import nextstep.subway.path.dto.ReachableResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/paths")
+public class PathController {
+    private final PathService pathService;
+
+    public PathController(PathService pathService) {
+        this.pathService = pathService;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> findPath(@AuthenticationPrincipal LoginMember loginMember,
+                                      @RequestParam Long source, @RequestParam Long target,
+                                      @RequestParam(defaultValue = "distance") String mode) {
+        PathMode pathMode = PathMode.of(mode);
+        if (pathMode == PathMode.PARETO) {
+            return ResponseEntity.ok(pathService.findParetoPaths(loginMember, source, target));
+        }
+        return ResponseEntity.ok(pathService.findPath(loginMember, source, target, pathMode));
+    }
+
+    @GetMapping("/alternatives")
+    public ResponseEntity<PathsResponse> findAlternatives(@AuthenticationPrincipal LoginMember loginMember,
+                                                          @RequestParam Long source, @RequestParam Long target,
+                                                          @RequestParam(defaultValue = "3") int k) {
+        return ResponseEntity.ok(pathService.findAlternatives(loginMember, source, target, k));
+    }
+
+    @GetMapping("/reachable")
+    public ResponseEntity<ReachableResponse> findReachable(@RequestParam Long source, @RequestParam int maxDistance) {
+        return ResponseEntity.ok(pathService.findReachable(source, maxDistance));
+    }
+
+    @PostMapping("/matrix")
+    public ResponseEntity<DistanceMatrixResponse> findDistanceMatrix(@RequestBody DistanceMatrixRequest request) {
+        return ResponseEntity.ok(pathService.findDistanceMatrix(request));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity handleIllegalArgsException(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().build();
+    }
+}
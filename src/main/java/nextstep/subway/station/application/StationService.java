@@ -1,9 +1,11 @@
 package nextstep.subway.station.application;
 
 import nextstep.subway.station.domain.Station;
+import nextstep.subway.station.domain.StationChangedEvent;
 import nextstep.subway.station.domain.StationRepository;
 import nextstep.subway.station.dto.StationRequest;
 import nextstep.subway.station.dto.StationResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,13 +15,16 @@ import java.util.stream.Collectors;
 @Service
 public class StationService {
     private StationRepository stationRepository;
+    private ApplicationEventPublisher eventPublisher;
 
-    public StationService(StationRepository stationRepository) {
+    public StationService(StationRepository stationRepository, ApplicationEventPublisher eventPublisher) {
         this.stationRepository = stationRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public StationResponse saveStation(StationRequest stationRequest) {
         Station persistStation = stationRepository.save(stationRequest.toStation());
+        eventPublisher.publishEvent(new StationChangedEvent(persistStation.getId()));
         return StationResponse.of(persistStation);
     }
 
@@ -33,6 +38,7 @@ public class StationService {
 
     public void deleteStationById(Long id) {
         stationRepository.deleteById(id);
+        eventPublisher.publishEvent(new StationChangedEvent(id));
     }
 
     public Station findStationById(Long id) {
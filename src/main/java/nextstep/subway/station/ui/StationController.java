@@ -1,9 +1,12 @@
 package nextstep.subway.station.ui;
 
+import nextstep.subway.map.application.MapChangeTracker;
+import nextstep.subway.map.domain.VersionTag;
 import nextstep.subway.station.application.StationService;
 import nextstep.subway.station.dto.StationRequest;
 import nextstep.subway.station.dto.StationResponse;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,9 +17,11 @@ import java.util.List;
 @RestController
 public class StationController {
     private StationService stationService;
+    private MapChangeTracker changeTracker;
 
-    public StationController(StationService stationService) {
+    public StationController(StationService stationService, MapChangeTracker changeTracker) {
         this.stationService = stationService;
+        this.changeTracker = changeTracker;
     }
 
     @PostMapping("/stations")
@@ -26,8 +31,12 @@ public class StationController {
     }
 
     @GetMapping(value = "/stations", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().body(stationService.findAllStations());
+    public ResponseEntity<List<StationResponse>> showStations(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String eTag = VersionTag.of("stations", changeTracker.stationsVersion());
+        if (VersionTag.matches(ifNoneMatch, eTag)) {
+            return VersionTag.notModified(eTag).build();
+        }
+        return VersionTag.ok(eTag).body(stationService.findAllStations());
     }
 
     @DeleteMapping("/stations/{id}")
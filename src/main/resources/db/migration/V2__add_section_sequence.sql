@@ -0,0 +1,23 @@
+-- section.sequence : 노선 안에서 상행 종점부터 매긴 구간 순서 (0부터 시작)
+-- 로컬/테스트 환경은 ddl-auto 로 스키마를 만들기 때문에 운영 DB(MySQL 8)에만 수동으로 적용한다.
+ALTER TABLE section ADD COLUMN sequence INT NOT NULL DEFAULT 0;
+
+UPDATE section s
+    JOIN (
+        WITH RECURSIVE ordered (id, line_id, down_station_id, sequence) AS (
+            SELECT first.id, first.line_id, first.down_station_id, 0
+            FROM section first
+            WHERE NOT EXISTS (SELECT 1
+                              FROM section previous
+                              WHERE previous.line_id = first.line_id
+                                AND previous.down_station_id = first.up_station_id)
+            UNION ALL
+            SELECT next.id, next.line_id, next.down_station_id, ordered.sequence + 1
+            FROM section next
+                JOIN ordered ON next.line_id = ordered.line_id AND next.up_station_id = ordered.down_station_id
+        )
+        SELECT id, sequence FROM ordered
+    ) backfill ON s.id = backfill.id
+SET s.sequence = backfill.sequence;
+
+CREATE INDEX ix_section_line_sequence ON section (line_id, sequence);
@@ -0,0 +1,3 @@
+-- line.extra_fare : 노선을 이용할 때 거리 요금에 더하는 추가 요금
+-- 로컬/테스트 환경은 ddl-auto 로 스키마를 만들기 때문에 운영 DB(MySQL 8)에만 수동으로 적용한다.
+ALTER TABLE line ADD COLUMN extra_fare INT NOT NULL DEFAULT 0;
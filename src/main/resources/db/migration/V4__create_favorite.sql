@@ -0,0 +1,18 @@
+-- favorite : 회원이 저장한 출발역/도착역과 노선도 버전별로 미리 계산해 둔 최단 경로 요약
+-- 로컬/테스트 환경은 ddl-auto 로 스키마를 만들기 때문에 운영 DB(MySQL 8)에만 수동으로 적용한다.
+CREATE TABLE favorite (
+    id                BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id         BIGINT NOT NULL,
+    source_station_id BIGINT,
+    target_station_id BIGINT,
+    route_version     BIGINT,
+    route_distance    INT,
+    route_fare        INT,
+    route_transfers   INT,
+    created_date      DATETIME(6),
+    modified_date     DATETIME(6),
+    CONSTRAINT fk_favorite_source_station FOREIGN KEY (source_station_id) REFERENCES station (id),
+    CONSTRAINT fk_favorite_target_station FOREIGN KEY (target_station_id) REFERENCES station (id)
+);
+
+CREATE INDEX ix_favorite_member ON favorite (member_id);
@@ -1,13 +1,16 @@
 package nextstep.subway;
 
 import io.restassured.RestAssured;
+import nextstep.subway.path.application.SubwayGraphProvider;
 import nextstep.subway.utils.DatabaseCleanup;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
 public class AcceptanceTest {
     @LocalServerPort
     int port;
@@ -15,9 +18,25 @@ public class AcceptanceTest {
     @Autowired
     private DatabaseCleanup databaseCleanup;
 
+    @Autowired
+    private SubwayGraphProvider graphProvider;
+
     @BeforeEach
     public void setUp() {
         RestAssured.port = port;
         databaseCleanup.execute();
+        awaitGraphRebuilt();
+    }
+
+    private void awaitGraphRebuilt() {
+        for (int i = 0; i < 500 && !graphProvider.isCurrent(); i++) {
+            graphProvider.current();
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
     }
 }
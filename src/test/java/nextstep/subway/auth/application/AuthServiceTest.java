@@ -1,20 +1,33 @@
 package nextstep.subway.auth.application;
 
+import nextstep.subway.auth.domain.LoginMember;
+import nextstep.subway.member.application.MemberCache;
+import nextstep.subway.member.application.PasswordService;
 import nextstep.subway.member.domain.Member;
 import nextstep.subway.member.domain.MemberRepository;
+import nextstep.subway.member.domain.Pbkdf2Password;
 import nextstep.subway.auth.dto.TokenRequest;
 import nextstep.subway.auth.dto.TokenResponse;
 import nextstep.subway.auth.infrastructure.JwtTokenProvider;
+import nextstep.subway.auth.infrastructure.JwtTokenProviderTest;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +37,7 @@ public class AuthServiceTest {
     public static final int AGE = 10;
 
     private AuthService authService;
+    private PasswordService passwordService;
 
     @Mock
     private MemberRepository memberRepository;
@@ -32,16 +46,84 @@ public class AuthServiceTest {
 
     @BeforeEach
     void setUp() {
-        authService = new AuthService(memberRepository, jwtTokenProvider);
+        passwordService = new PasswordService(1, 1000, 1, 4);
+        authService = new AuthService(memberRepository, jwtTokenProvider, new MemberCache(100, 60000), passwordService);
     }
 
     @Test
     void login() {
         when(memberRepository.findByEmail(anyString())).thenReturn(Optional.of(new Member(EMAIL, PASSWORD, AGE)));
-        when(jwtTokenProvider.createToken(anyString())).thenReturn("TOKEN");
+        when(jwtTokenProvider.createToken(any(LoginMember.class))).thenReturn("TOKEN");
 
         TokenResponse token = authService.login(new TokenRequest(EMAIL, PASSWORD));
 
         assertThat(token.getAccessToken()).isNotBlank();
     }
+
+    @DisplayName("평문으로 저장된 비밀번호는 로그인에 성공하면 해시로 바꿔 저장한다.")
+    @Test
+    void loginUpgradesLegacyPassword() {
+        Member member = new Member(EMAIL, PASSWORD, AGE);
+        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(member));
+        when(jwtTokenProvider.createToken(any(LoginMember.class))).thenReturn("TOKEN");
+
+        authService.login(new TokenRequest(EMAIL, PASSWORD));
+
+        assertThat(Pbkdf2Password.isHashed(member.getPassword())).isTrue();
+        assertThat(passwordService.matches(PASSWORD, member.getPassword())).isTrue();
+        verify(memberRepository).save(member);
+    }
+
+    @DisplayName("비밀번호가 틀리면 로그인할 수 없다.")
+    @Test
+    void loginWithWrongPassword() {
+        Member member = new Member(EMAIL, passwordService.encode(PASSWORD), AGE);
+        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(member));
+
+        assertThatThrownBy(() -> authService.login(new TokenRequest(EMAIL, "wrong")))
+                .isInstanceOf(AuthorizationException.class);
+        verify(memberRepository, never()).save(any());
+    }
+
+    @DisplayName("없는 이메일이어도 비밀번호를 비교한 뒤에 로그인을 거절한다.")
+    @Test
+    void loginWithUnknownEmail() {
+        PasswordService passwordService = spy(this.passwordService);
+        AuthService authService = new AuthService(memberRepository, jwtTokenProvider, new MemberCache(100, 60000), passwordService);
+        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> authService.login(new TokenRequest(EMAIL, PASSWORD)))
+                .isInstanceOf(AuthorizationException.class);
+        verify(passwordService).matches(eq(PASSWORD), anyString());
+    }
+
+    @DisplayName("회원 정보가 담긴 토큰이면 DB 를 조회하지 않고 로그인 회원을 만든다.")
+    @Test
+    void findMemberByTokenWithoutRepository() {
+        JwtTokenProvider realTokenProvider = new JwtTokenProvider(JwtTokenProviderTest.SECRET_KEY, 3600000);
+        AuthService authService = new AuthService(memberRepository, realTokenProvider, new MemberCache(100, 60000), passwordService);
+        String token = realTokenProvider.createToken(new LoginMember(1L, EMAIL, AGE));
+
+        LoginMember loginMember = authService.findMemberByToken(token);
+
+        assertThat(loginMember.getId()).isEqualTo(1L);
+        assertThat(loginMember.getEmail()).isEqualTo(EMAIL);
+        assertThat(loginMember.getAge()).isEqualTo(AGE);
+        verify(memberRepository, never()).findByEmail(anyString());
+    }
+
+    @DisplayName("회원 정보가 없는 이전 토큰이면 이메일로 회원을 조회한다.")
+    @Test
+    void findMemberByLegacyToken() {
+        JwtTokenProvider realTokenProvider = new JwtTokenProvider(JwtTokenProviderTest.SECRET_KEY, 3600000);
+        AuthService authService = new AuthService(memberRepository, realTokenProvider, new MemberCache(100, 60000), passwordService);
+        Member member = new Member(EMAIL, PASSWORD, AGE);
+        ReflectionTestUtils.setField(member, "id", 1L);
+        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(member));
+
+        LoginMember loginMember = authService.findMemberByToken(realTokenProvider.createToken(EMAIL));
+
+        assertThat(loginMember.getId()).isEqualTo(1L);
+        assertThat(loginMember.getAge()).isEqualTo(AGE);
+    }
 }
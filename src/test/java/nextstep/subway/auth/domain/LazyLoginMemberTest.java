@@ -0,0 +1,42 @@
+package nextstep.subway.auth.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지연 로딩 로그인 회원")
+public class LazyLoginMemberTest {
+    @DisplayName("회원 정보를 처음 꺼낼 때 한 번만 불러온다.")
+    @Test
+    void loadOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyLoginMember loginMember = new LazyLoginMember(() -> {
+            loads.incrementAndGet();
+            return new LoginMember(1L, "email@email.com", 20);
+        });
+
+        assertThat(loads.get()).isZero();
+
+        assertThat(loginMember.getAge()).isEqualTo(20);
+        assertThat(loginMember.getId()).isEqualTo(1L);
+        assertThat(loginMember.getEmail()).isEqualTo("email@email.com");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @DisplayName("로그인 회원의 모든 공개 메서드를 불러온 회원에게 넘겨 비어 있는 상위 필드를 읽지 않는다.")
+    @Test
+    void overrideEveryPublicMethod() throws NoSuchMethodException {
+        for (Method method : LoginMember.class.getDeclaredMethods()) {
+            if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            Method overridden = LazyLoginMember.class.getMethod(method.getName(), method.getParameterTypes());
+            assertThat(overridden.getDeclaringClass()).isEqualTo(LazyLoginMember.class);
+        }
+    }
+}
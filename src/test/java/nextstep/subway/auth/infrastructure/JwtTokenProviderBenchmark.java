@@ -0,0 +1,62 @@
+package nextstep.subway.auth.infrastructure;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@DisplayName("JWT 검증 처리량 (./gradlew benchmark)")
+public class JwtTokenProviderBenchmark {
+    private static final Logger log = LoggerFactory.getLogger(JwtTokenProviderBenchmark.class);
+    private static final String SECRET_KEY = JwtTokenProviderTest.SECRET_KEY;
+    private static final String EMAIL = "email@email.com";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 3600000);
+
+    @DisplayName("파서와 키를 재사용해 한 번만 파싱하는 방식과 이전 방식의 초당 검증 수를 비교한다.")
+    @Test
+    void verifiedTokensPerSecond() {
+        String token = jwtTokenProvider.createToken(EMAIL);
+
+        double before = tokensPerSecond(token, JwtTokenProviderBenchmark::parseTwice);
+        double after = tokensPerSecond(token, it -> jwtTokenProvider.verify(it).map(TokenClaims::getSubject).orElse(null));
+
+        log.info("JWT verify: before {} tokens/s, after {} tokens/s (x{})",
+                String.format("%.0f", before), String.format("%.0f", after), String.format("%.2f", after / before));
+    }
+
+    private static double tokensPerSecond(String token, Function<String, String> verifier) {
+        for (int i = 0; i < WARMUP; i++) {
+            assertThat(verifier.apply(token)).isEqualTo(EMAIL);
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (verifier.apply(token) == null) {
+                throw new IllegalStateException();
+            }
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        return ITERATIONS / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static String parseTwice(String token) {
+        Jws<Claims> claims = Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token);
+        if (claims.getBody().getExpiration().before(new Date())) {
+            return null;
+        }
+        return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody().getSubject();
+    }
+}
@@ -1,8 +1,206 @@
 package nextstep.subway.favorite;
 
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
 import nextstep.subway.AcceptanceTest;
+import nextstep.subway.auth.acceptance.AuthAcceptanceTest;
+import nextstep.subway.favorite.application.FavoriteService;
+import nextstep.subway.favorite.dto.FavoriteRequest;
+import nextstep.subway.favorite.dto.FavoriteResponse;
+import nextstep.subway.line.acceptance.LineAcceptanceTest;
+import nextstep.subway.line.application.NetworkVersion;
+import nextstep.subway.line.dto.LineRequest;
+import nextstep.subway.member.MemberAcceptanceTest;
+import nextstep.subway.station.StationAcceptanceTest;
+import nextstep.subway.station.dto.StationResponse;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("즐겨찾기 관련 기능")
 public class FavoriteAcceptanceTest extends AcceptanceTest {
-}
\ No newline at end of file
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FavoriteService favoriteService;
+
+    @Autowired
+    private NetworkVersion networkVersion;
+
+    private StationResponse 강남역;
+    private StationResponse 양재역;
+    private StationResponse 교대역;
+    private String accessToken;
+
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        강남역 = StationAcceptanceTest.지하철역_등록되어_있음("강남역").as(StationResponse.class);
+        양재역 = StationAcceptanceTest.지하철역_등록되어_있음("양재역").as(StationResponse.class);
+        교대역 = StationAcceptanceTest.지하철역_등록되어_있음("교대역").as(StationResponse.class);
+        LineAcceptanceTest.지하철_노선_등록되어_있음(new LineRequest("신분당선", "bg-red-600", 강남역.getId(), 양재역.getId(), 10));
+        LineAcceptanceTest.지하철_노선_등록되어_있음(new LineRequest("삼호선", "bg-orange-600", 양재역.getId(), 교대역.getId(), 5));
+
+        MemberAcceptanceTest.회원_생성을_요청(MemberAcceptanceTest.EMAIL, MemberAcceptanceTest.PASSWORD, MemberAcceptanceTest.AGE);
+        accessToken = AuthAcceptanceTest.로그인되어_있음(MemberAcceptanceTest.EMAIL, MemberAcceptanceTest.PASSWORD);
+    }
+
+    @DisplayName("즐겨찾기를 관리한다.")
+    @Test
+    void manageFavorite() {
+        // when
+        ExtractableResponse<Response> createResponse = 즐겨찾기_생성_요청(accessToken, 강남역, 교대역);
+
+        // then
+        즐겨찾기_생성됨(createResponse);
+
+        // when
+        ExtractableResponse<Response> findResponse = 즐겨찾기_목록_조회_요청(accessToken);
+
+        // then
+        List<FavoriteResponse> favorites = findResponse.jsonPath().getList(".", FavoriteResponse.class);
+        assertThat(favorites).hasSize(1);
+        assertThat(favorites.get(0).getSource().getId()).isEqualTo(강남역.getId());
+        assertThat(favorites.get(0).getTarget().getId()).isEqualTo(교대역.getId());
+        assertThat(favorites.get(0).getDistance()).isEqualTo(15);
+        assertThat(favorites.get(0).getFare()).isEqualTo(1350);
+        assertThat(favorites.get(0).getTransfers()).isEqualTo(1);
+
+        // when
+        ExtractableResponse<Response> deleteResponse = 즐겨찾기_삭제_요청(accessToken, createResponse);
+
+        // then
+        assertThat(deleteResponse.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(즐겨찾기_목록_조회_요청(accessToken).jsonPath().getList(".", FavoriteResponse.class)).isEmpty();
+    }
+
+    @DisplayName("노선도가 바뀌면 즐겨찾기 경로를 다시 계산해 둔다.")
+    @Test
+    void refreshFavoriteRoute() throws InterruptedException {
+        // given
+        즐겨찾기_생성_요청(accessToken, 강남역, 교대역);
+
+        // when
+        LineAcceptanceTest.지하철_노선_등록되어_있음(new LineRequest("이호선", "bg-green-600", 교대역.getId(), 강남역.getId(), 10));
+
+        // then
+        FavoriteResponse favorite = 즐겨찾기_경로가_바뀔_때까지_조회(accessToken, 15);
+        assertThat(favorite.getDistance()).isEqualTo(10);
+        assertThat(favorite.getTransfers()).isZero();
+    }
+
+    @DisplayName("이전 실행에서 저장된 경로의 버전이 현재 버전보다 높아도 다시 계산한다.")
+    @Test
+    void refreshFavoriteRouteStoredWithHigherVersion() {
+        // given
+        즐겨찾기_생성_요청(accessToken, 강남역, 교대역);
+        jdbcTemplate.update("update favorite set route_version = ?, route_distance = ?", networkVersion.current() + 1000, 999);
+
+        // when
+        favoriteService.refreshRoutes();
+
+        // then
+        FavoriteResponse favorite = 즐겨찾기_목록_조회_요청(accessToken).jsonPath().getList(".", FavoriteResponse.class).get(0);
+        assertThat(favorite.getDistance()).isEqualTo(15);
+    }
+
+    @DisplayName("로그인하지 않으면 즐겨찾기를 관리할 수 없다.")
+    @Test
+    void manageFavoriteWithoutLogin() {
+        // when
+        ExtractableResponse<Response> response = 즐겨찾기_생성_요청("invalid-token", 강남역, 교대역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @DisplayName("다른 회원의 즐겨찾기는 삭제할 수 없다.")
+    @Test
+    void deleteFavoriteOfOtherMember() {
+        // given
+        ExtractableResponse<Response> createResponse = 즐겨찾기_생성_요청(accessToken, 강남역, 교대역);
+        MemberAcceptanceTest.회원_생성을_요청(MemberAcceptanceTest.NEW_EMAIL, MemberAcceptanceTest.NEW_PASSWORD, MemberAcceptanceTest.AGE);
+        String otherAccessToken = AuthAcceptanceTest.로그인되어_있음(MemberAcceptanceTest.NEW_EMAIL, MemberAcceptanceTest.NEW_PASSWORD);
+
+        // when
+        ExtractableResponse<Response> response = 즐겨찾기_삭제_요청(otherAccessToken, createResponse);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.FORBIDDEN.value());
+        assertThat(즐겨찾기_목록_조회_요청(accessToken).jsonPath().getList(".", FavoriteResponse.class)).hasSize(1);
+    }
+
+    @DisplayName("존재하지 않는 즐겨찾기는 삭제할 수 없다.")
+    @Test
+    void deleteMissingFavorite() {
+        // given
+        ExtractableResponse<Response> createResponse = 즐겨찾기_생성_요청(accessToken, 강남역, 교대역);
+        즐겨찾기_삭제_요청(accessToken, createResponse);
+
+        // when
+        ExtractableResponse<Response> response = 즐겨찾기_삭제_요청(accessToken, createResponse);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
+    public static ExtractableResponse<Response> 즐겨찾기_생성_요청(String accessToken, StationResponse source, StationResponse target) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new FavoriteRequest(source.getId(), target.getId()))
+                .when().post("/favorites")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 즐겨찾기_목록_조회_요청(String accessToken) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/favorites")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 즐겨찾기_삭제_요청(String accessToken, ExtractableResponse<Response> response) {
+        String uri = response.header("Location");
+
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .when().delete(uri)
+                .then().log().all()
+                .extract();
+    }
+
+    public static void 즐겨찾기_생성됨(ExtractableResponse<Response> response) {
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(response.header("Location")).isNotBlank();
+    }
+
+    private static FavoriteResponse 즐겨찾기_경로가_바뀔_때까지_조회(String accessToken, int oldDistance) throws InterruptedException {
+        FavoriteResponse favorite = null;
+        for (int i = 0; i < 50; i++) {
+            favorite = 즐겨찾기_목록_조회_요청(accessToken).jsonPath().getList(".", FavoriteResponse.class).get(0);
+            if (favorite.getDistance() != oldDistance) {
+                return favorite;
+            }
+            Thread.sleep(200);
+        }
+        return favorite;
+    }
+}
@@ -8,9 +8,11 @@ import nextstep.subway.line.dto.LineRequest;
 import nextstep.subway.line.dto.LineResponse;
 import nextstep.subway.station.StationAcceptanceTest;
 import nextstep.subway.station.dto.StationResponse;
+import nextstep.subway.utils.RequestStatementCounter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
@@ -77,6 +79,28 @@ public class LineAcceptanceTest extends AcceptanceTest {
         지하철_노선_목록_포함됨(response, Arrays.asList(createResponse1, createResponse2));
     }
 
+    @DisplayName("지하철 노선 목록은 노선과 구간 수에 상관 없이 한 번의 쿼리로 조회한다.")
+    @Test
+    void getLinesWithoutNPlusOneQueries() {
+        // given
+        StationResponse 양재역 = StationAcceptanceTest.지하철역_등록되어_있음("양재역").as(StationResponse.class);
+        StationResponse 정자역 = StationAcceptanceTest.지하철역_등록되어_있음("정자역").as(StationResponse.class);
+        LineResponse 신분당선 = 지하철_노선_등록되어_있음(lineRequest1).as(LineResponse.class);
+        LineSectionAcceptanceTest.지하철_노선에_지하철역_등록_요청(신분당선, 강남역, 양재역, 3);
+        LineSectionAcceptanceTest.지하철_노선에_지하철역_등록_요청(신분당선, 양재역, 정자역, 3);
+        지하철_노선_등록되어_있음(lineRequest2);
+        지하철_노선_등록되어_있음(new LineRequest("삼호선", "bg-orange-600", 양재역.getId(), 정자역.getId(), 5));
+        RequestStatementCounter.reset();
+
+        // when
+        ExtractableResponse<Response> response = 지하철_노선_목록_조회_요청();
+
+        // then
+        지하철_노선_목록_응답됨(response);
+        assertThat(response.jsonPath().getList(".", LineResponse.class)).hasSize(3);
+        assertThat(RequestStatementCounter.count()).isEqualTo(1);
+    }
+
     @DisplayName("지하철 노선을 조회한다.")
     @Test
     void getLine() {
@@ -90,6 +114,88 @@ public class LineAcceptanceTest extends AcceptanceTest {
         지하철_노선_응답됨(response, createResponse);
     }
 
+    @DisplayName("지하철 노선 목록이 바뀌지 않았으면 DB 를 조회하지 않고 304 로 응답한다.")
+    @Test
+    void getLinesNotModified() {
+        // given
+        ExtractableResponse<Response> createResponse = 지하철_노선_등록되어_있음(lineRequest1);
+        String eTag = 지하철_노선_목록_조회_요청().header(HttpHeaders.ETAG);
+        RequestStatementCounter.reset();
+
+        // when
+        ExtractableResponse<Response> response = 지하철_노선_목록_조회_요청("/lines", eTag);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(RequestStatementCounter.count()).isZero();
+
+        // when
+        지하철_노선_수정_요청(createResponse, lineRequest2);
+        ExtractableResponse<Response> modifiedResponse = 지하철_노선_목록_조회_요청("/lines", eTag);
+
+        // then
+        지하철_노선_목록_응답됨(modifiedResponse);
+        assertThat(modifiedResponse.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
+
+    @DisplayName("다른 노선이 바뀌어도 조회한 노선이 그대로면 304 로 응답한다.")
+    @Test
+    void getLineNotModified() {
+        // given
+        ExtractableResponse<Response> createResponse = 지하철_노선_등록되어_있음(lineRequest1);
+        String uri = createResponse.header("Location");
+        String eTag = 지하철_노선_목록_조회_요청(createResponse).header(HttpHeaders.ETAG);
+        지하철_노선_등록되어_있음(lineRequest2);
+
+        // when
+        ExtractableResponse<Response> response = 지하철_노선_목록_조회_요청(uri, eTag);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.header(HttpHeaders.ETAG)).isEqualTo(eTag);
+
+        // when
+        지하철_노선_수정_요청(createResponse, new LineRequest("새신분당선", "bg-red-600", 강남역.getId(), 광교역.getId(), 10));
+        ExtractableResponse<Response> modifiedResponse = 지하철_노선_목록_조회_요청(uri, eTag);
+
+        // then
+        assertThat(modifiedResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(modifiedResponse.as(LineResponse.class).getName()).isEqualTo("새신분당선");
+    }
+
+    @DisplayName("없는 지하철 노선은 ETag 가 맞아도 304 가 아니라 404 로 응답한다.")
+    @Test
+    void getUnknownLineNotModified() {
+        // when
+        ExtractableResponse<Response> response = 지하철_노선_목록_조회_요청("/lines/999", "*");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
+    @DisplayName("한 번 조회한 지하철 노선은 수정되기 전까지 DB 를 조회하지 않는다.")
+    @Test
+    void getLineFromReadModel() {
+        // given
+        ExtractableResponse<Response> createResponse = 지하철_노선_등록되어_있음(lineRequest1);
+        지하철_노선_목록_조회_요청(createResponse);
+        RequestStatementCounter.reset();
+
+        // when
+        ExtractableResponse<Response> response = 지하철_노선_목록_조회_요청(createResponse);
+
+        // then
+        지하철_노선_응답됨(response, createResponse);
+        assertThat(RequestStatementCounter.count()).isZero();
+
+        // when
+        지하철_노선_수정_요청(createResponse, lineRequest2);
+        ExtractableResponse<Response> modifiedResponse = 지하철_노선_목록_조회_요청(createResponse);
+
+        // then
+        assertThat(modifiedResponse.as(LineResponse.class).getName()).isEqualTo(lineRequest2.getName());
+    }
+
     @DisplayName("지하철 노선을 수정한다.")
     @Test
     void updateLine() {
@@ -150,6 +256,16 @@ public class LineAcceptanceTest extends AcceptanceTest {
                 .extract();
     }
 
+    private static ExtractableResponse<Response> 지하철_노선_목록_조회_요청(String uri, String eTag) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get(uri)
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 지하철_노선_조회_요청(LineResponse response) {
         return RestAssured
                 .given().log().all()
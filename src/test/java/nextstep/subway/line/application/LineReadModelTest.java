@@ -0,0 +1,86 @@
+package nextstep.subway.line.application;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.LineRepository;
+import nextstep.subway.line.dto.LineResponse;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static nextstep.subway.station.StationFixture.station;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("노선 조회 모델")
+@ExtendWith(MockitoExtension.class)
+public class LineReadModelTest {
+    @Mock
+    private LineRepository lineRepository;
+
+    private LineReadModel lineReadModel;
+    private Line 신분당선;
+    private Line 이호선;
+
+    @BeforeEach
+    void setUp() {
+        lineReadModel = new LineReadModel(lineRepository);
+        신분당선 = line(1L, "신분당선", station(1L, "강남역"), station(2L, "광교역"));
+        이호선 = line(2L, "2호선", station(1L, "강남역"), station(3L, "역삼역"));
+    }
+
+    @DisplayName("한 번 읽은 노선 목록과 노선은 저장소를 다시 읽지 않는다.")
+    @Test
+    void cacheLines() {
+        // given
+        when(lineRepository.findAll()).thenReturn(Arrays.asList(신분당선, 이호선));
+
+        // when
+        List<LineResponse> lines = lineReadModel.findLines();
+        LineResponse line = lineReadModel.findLine(1L);
+
+        // then
+        assertThat(lineReadModel.findLines()).isSameAs(lines);
+        assertThat(line.getName()).isEqualTo("신분당선");
+        verify(lineRepository, times(1)).findAll();
+        verify(lineRepository, never()).findAllWithSectionsByIdIn(any());
+    }
+
+    @DisplayName("노선이 바뀌면 그 노선과 노선 목록만 다시 읽는다.")
+    @Test
+    void evictChangedLine() {
+        // given
+        when(lineRepository.findAll()).thenReturn(Arrays.asList(신분당선, 이호선));
+        when(lineRepository.findAllWithSectionsByIdIn(Collections.singleton(1L))).thenReturn(Collections.singletonList(신분당선));
+        lineReadModel.findLines();
+        LineResponse 이호선_응답 = lineReadModel.findLine(2L);
+
+        // when
+        lineReadModel.evict(1L);
+
+        // then
+        assertThat(lineReadModel.findLine(2L)).isSameAs(이호선_응답);
+        assertThat(lineReadModel.findLine(1L).getName()).isEqualTo("신분당선");
+        lineReadModel.findLines();
+        verify(lineRepository, times(1)).findAllWithSectionsByIdIn(Collections.singleton(1L));
+        verify(lineRepository, times(2)).findAll();
+    }
+
+    private static Line line(Long id, String name, Station upStation, Station downStation) {
+        Line line = new Line(name, "bg-red-600", upStation, downStation, 10);
+        ReflectionTestUtils.setField(line, "id", id);
+        return line;
+    }
+}
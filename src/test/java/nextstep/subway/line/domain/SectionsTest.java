@@ -0,0 +1,94 @@
+package nextstep.subway.line.domain;
+
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static nextstep.subway.station.StationFixture.station;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("지하철 구간 목록")
+public class SectionsTest {
+    private Station 강남역;
+    private Station 양재역;
+    private Station 정자역;
+    private Station 광교역;
+    private Line 신분당선;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = station(1L, "강남역");
+        양재역 = station(2L, "양재역");
+        정자역 = station(3L, "정자역");
+        광교역 = station(4L, "광교역");
+        신분당선 = new Line("신분당선", "red", 강남역, 광교역, 10);
+    }
+
+    @DisplayName("순서와 상관 없이 등록한 구간의 역을 상행부터 정렬한다.")
+    @Test
+    void addSection() {
+        // when
+        신분당선.addSection(강남역, 양재역, 2);
+        신분당선.addSection(정자역, 강남역, 5);
+
+        // then
+        assertThat(신분당선.getStations()).containsExactly(정자역, 강남역, 양재역, 광교역);
+        assertThat(신분당선.getSections()).extracting(Section::getDistance).containsOnly(5, 2, 8);
+    }
+
+    @DisplayName("구간을 등록하면 상행부터 구간 순서를 다시 매긴다.")
+    @Test
+    void addSectionUpdatesSequence() {
+        // when
+        신분당선.addSection(양재역, 광교역, 3);
+        신분당선.addSection(정자역, 강남역, 5);
+
+        // then
+        assertThat(신분당선.getSections())
+                .extracting(Section::getUpStation, Section::getSequence)
+                .containsOnly(tuple(정자역, 0), tuple(강남역, 1), tuple(양재역, 2));
+    }
+
+    @Test
+    void addSectionWithSameStations() {
+        assertThatThrownBy(() -> 신분당선.addSection(강남역, 광교역, 3))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void addSectionWithNoStation() {
+        assertThatThrownBy(() -> 신분당선.addSection(정자역, 양재역, 3))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void addSectionWithTooLongDistance() {
+        assertThatThrownBy(() -> 신분당선.addSection(강남역, 양재역, 10))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(신분당선.getStations()).containsExactly(강남역, 광교역);
+    }
+
+    @DisplayName("가운데 역을 제외하면 앞뒤 구간을 합친다.")
+    @Test
+    void removeStation() {
+        // given
+        신분당선.addSection(강남역, 양재역, 2);
+        신분당선.addSection(양재역, 정자역, 2);
+
+        // when
+        신분당선.removeStation(양재역);
+
+        // then
+        assertThat(신분당선.getStations()).containsExactly(강남역, 정자역, 광교역);
+        assertThat(신분당선.getSections()).extracting(Section::getDistance).containsOnly(4, 6);
+    }
+
+    @Test
+    void removeStationWithLastSection() {
+        assertThatThrownBy(() -> 신분당선.removeStation(강남역))
+                .isInstanceOf(RuntimeException.class);
+    }
+}
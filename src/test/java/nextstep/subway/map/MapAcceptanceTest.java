@@ -0,0 +1,251 @@
+package nextstep.subway.map;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import nextstep.subway.AcceptanceTest;
+import nextstep.subway.line.acceptance.LineAcceptanceTest;
+import nextstep.subway.line.acceptance.LineSectionAcceptanceTest;
+import nextstep.subway.line.dto.LineRequest;
+import nextstep.subway.line.dto.LineResponse;
+import nextstep.subway.map.application.MapChangeStream;
+import nextstep.subway.map.dto.MapChangesResponse;
+import nextstep.subway.map.dto.MapLineResponse;
+import nextstep.subway.station.StationAcceptanceTest;
+import nextstep.subway.station.dto.StationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 노선도 조회")
+public class MapAcceptanceTest extends AcceptanceTest {
+    @Autowired
+    private MapChangeStream changeStream;
+
+    private ExtractableResponse<Response> 신분당선_생성_응답;
+    private LineResponse 신분당선;
+    private StationResponse 강남역;
+    private StationResponse 양재역;
+    private StationResponse 광교역;
+
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        강남역 = StationAcceptanceTest.지하철역_등록되어_있음("강남역").as(StationResponse.class);
+        양재역 = StationAcceptanceTest.지하철역_등록되어_있음("양재역").as(StationResponse.class);
+        광교역 = StationAcceptanceTest.지하철역_등록되어_있음("광교역").as(StationResponse.class);
+        신분당선_생성_응답 = LineAcceptanceTest.지하철_노선_등록되어_있음(new LineRequest("신분당선", "bg-red-600", 강남역.getId(), 광교역.getId(), 10));
+        신분당선 = 신분당선_생성_응답.as(LineResponse.class);
+    }
+
+    @DisplayName("전체 노선도를 조회한다.")
+    @Test
+    void findMap() {
+        // when
+        ExtractableResponse<Response> response = 노선도_조회_요청();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.header(HttpHeaders.ETAG)).isNotBlank();
+        List<MapLineResponse> lines = response.jsonPath().getList(".", MapLineResponse.class);
+        assertThat(lines).extracting(MapLineResponse::getName).containsExactly("신분당선");
+        assertThat(lines.get(0).getStations()).extracting(it -> it.getStation().getId())
+                .containsExactly(강남역.getId(), 광교역.getId());
+    }
+
+    @DisplayName("노선도가 바뀌지 않았으면 다시 받지 않는다.")
+    @Test
+    void findMapNotModified() {
+        // given
+        String eTag = 노선도_조회_요청().header(HttpHeaders.ETAG);
+
+        // when
+        ExtractableResponse<Response> response = 노선도_조회_요청(eTag);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.header(HttpHeaders.ETAG)).isEqualTo(eTag);
+    }
+
+    @DisplayName("노선도가 바뀌면 새 노선도를 받는다.")
+    @Test
+    void findMapAfterSectionChanged() {
+        // given
+        String eTag = 노선도_조회_요청().header(HttpHeaders.ETAG);
+        LineSectionAcceptanceTest.지하철_노선에_지하철역_등록_요청(신분당선, 강남역, 양재역, 3);
+
+        // when
+        ExtractableResponse<Response> response = 노선도_조회_요청(eTag);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        List<MapLineResponse> lines = response.jsonPath().getList(".", MapLineResponse.class);
+        assertThat(lines.get(0).getStations()).extracting(it -> it.getStation().getId())
+                .containsExactly(강남역.getId(), 양재역.getId(), 광교역.getId());
+    }
+
+    @DisplayName("받은 버전 이후에 바뀐 노선과 역만 조회한다.")
+    @Test
+    void findChanges() {
+        // given
+        long version = 노선도_버전(노선도_조회_요청());
+        LineSectionAcceptanceTest.지하철_노선에_지하철역_등록_요청(신분당선, 강남역, 양재역, 3);
+        StationResponse 판교역 = StationAcceptanceTest.지하철역_등록되어_있음("판교역").as(StationResponse.class);
+
+        // when
+        MapChangesResponse changes = 노선도_변경_조회_요청(version).as(MapChangesResponse.class);
+
+        // then
+        assertThat(changes.isReset()).isFalse();
+        assertThat(changes.getVersion()).isGreaterThan(version);
+        assertThat(changes.getLines()).extracting(MapLineResponse::getId).containsExactly(신분당선.getId());
+        assertThat(changes.getLines().get(0).getSections()).hasSize(2);
+        assertThat(changes.getStations()).extracting(StationResponse::getId).containsExactly(판교역.getId());
+        assertThat(changes.getDeletedLineIds()).isEmpty();
+
+        // when
+        MapChangesResponse noChanges = 노선도_변경_조회_요청(changes.getVersion()).as(MapChangesResponse.class);
+
+        // then
+        assertThat(noChanges.isReset()).isFalse();
+        assertThat(noChanges.getLines()).isEmpty();
+        assertThat(noChanges.getStations()).isEmpty();
+    }
+
+    @DisplayName("삭제한 노선과 역은 삭제 목록으로 받는다.")
+    @Test
+    void findDeletedChanges() {
+        // given
+        long version = 노선도_버전(노선도_조회_요청());
+        LineAcceptanceTest.지하철_노선_제거_요청(신분당선_생성_응답);
+        ExtractableResponse<Response> 판교역 = StationAcceptanceTest.지하철역_등록되어_있음("판교역");
+        StationAcceptanceTest.지하철역_제거_요청(판교역);
+
+        // when
+        MapChangesResponse changes = 노선도_변경_조회_요청(version).as(MapChangesResponse.class);
+
+        // then
+        assertThat(changes.getLines()).isEmpty();
+        assertThat(changes.getDeletedLineIds()).containsExactly(신분당선.getId());
+        assertThat(changes.getStations()).isEmpty();
+        assertThat(changes.getDeletedStationIds()).containsExactly(판교역.as(StationResponse.class).getId());
+    }
+
+    @DisplayName("알 수 없는 버전이면 노선도를 처음부터 다시 받게 한다.")
+    @Test
+    void findChangesFromUnknownVersion() {
+        // given
+        long version = 노선도_버전(노선도_조회_요청());
+
+        // when
+        MapChangesResponse fromPast = 노선도_변경_조회_요청(0).as(MapChangesResponse.class);
+        MapChangesResponse fromFuture = 노선도_변경_조회_요청(version + 1).as(MapChangesResponse.class);
+
+        // then
+        assertThat(fromPast.isReset()).isTrue();
+        assertThat(fromFuture.isReset()).isTrue();
+        assertThat(fromFuture.getVersion()).isEqualTo(version);
+    }
+
+    @DisplayName("변경 스트림을 구독하면 커밋된 변경을 change 이벤트로 받고, 연결이 끝나면 구독을 정리한다.")
+    @Test
+    void streamChanges() throws Exception {
+        // given
+        BlockingQueue<String> events = 노선도_변경_스트림_구독_요청();
+
+        // when
+        StationResponse 정자역 = StationAcceptanceTest.지하철역_등록되어_있음("정자역").as(StationResponse.class);
+
+        // then
+        assertThat(events.poll(5, TimeUnit.SECONDS)).isEqualTo("event:change");
+        assertThat(events.poll(5, TimeUnit.SECONDS))
+                .contains("\"type\":\"STATION\"")
+                .contains("\"id\":" + 정자역.getId());
+
+        // when
+        구독이_모두_정리될_때까지_대기();
+
+        // then
+        assertThat(changeStream.subscribers()).isZero();
+    }
+
+    public static ExtractableResponse<Response> 노선도_조회_요청() {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/maps")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 노선도_조회_요청(String eTag) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get("/maps")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 노선도_변경_조회_요청(long since) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("since", since)
+                .when().get("/maps/changes")
+                .then().log().all()
+                .extract();
+    }
+
+    public static BlockingQueue<String> 노선도_변경_스트림_구독_요청() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + RestAssured.port + "/maps/changes/stream").openConnection();
+        connection.setRequestProperty(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+
+        BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        Thread thread = new Thread(() -> {
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith("event:") || line.startsWith("data:")) {
+                        events.add(line);
+                    }
+                }
+            } catch (IOException ignored) {
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return events;
+    }
+
+    private void 구독이_모두_정리될_때까지_대기() throws InterruptedException {
+        for (int i = 0; i < 50 && changeStream.subscribers() > 0; i++) {
+            Thread.sleep(200);
+        }
+    }
+
+    public static long 노선도_버전(ExtractableResponse<Response> response) {
+        return Long.parseLong(response.header("X-Map-Version"));
+    }
+}
@@ -0,0 +1,75 @@
+package nextstep.subway.map.application;
+
+import nextstep.subway.line.application.LineReadModel;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.LineChangedEvent;
+import nextstep.subway.line.domain.LineRepository;
+import nextstep.subway.line.dto.LineResponse;
+import nextstep.subway.map.domain.MapChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static nextstep.subway.station.StationFixture.station;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@DisplayName("노선도 변경 추적")
+@ExtendWith(MockitoExtension.class)
+public class MapChangeTrackerTest {
+    @Mock
+    private LineRepository lineRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private LineReadModel lineReadModel;
+    private MapChangeTracker changeTracker;
+
+    @BeforeEach
+    void setUp() {
+        lineReadModel = new LineReadModel(lineRepository);
+        changeTracker = new MapChangeTracker(lineReadModel, eventPublisher, 100);
+    }
+
+    @DisplayName("노선 버전이 오른 뒤에 조회하면 바뀐 노선을 응답한다.")
+    @Test
+    void evictBeforeVersionBump() {
+        // given
+        when(lineRepository.findAllWithSectionsByIdIn(Collections.singleton(1L)))
+                .thenReturn(Collections.singletonList(line(1L, "신분당선")))
+                .thenReturn(Collections.singletonList(line(1L, "새신분당선")));
+        long before = changeTracker.lineVersion(1L);
+        lineReadModel.findLine(1L);
+
+        AtomicReference<String> readAfterBump = new AtomicReference<>();
+        doAnswer(invocation -> {
+            // 버전이 오른 직후 들어온 조회 요청
+            assertThat(changeTracker.lineVersion(1L)).isNotEqualTo(before);
+            LineResponse line = lineReadModel.findLine(1L);
+            readAfterBump.set(line.getName());
+            return null;
+        }).when(eventPublisher).publishEvent(any(MapChange.class));
+
+        // when
+        changeTracker.onLineChanged(new LineChangedEvent(1L));
+
+        // then
+        assertThat(readAfterBump.get()).isEqualTo("새신분당선");
+    }
+
+    private static Line line(Long id, String name) {
+        Line line = new Line(name, "bg-red-600", station(1L, "강남역"), station(2L, "광교역"), 10);
+        ReflectionTestUtils.setField(line, "id", id);
+        return line;
+    }
+}
@@ -0,0 +1,70 @@
+package nextstep.subway.map.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노선도 변경 이력")
+public class MapChangeLogTest {
+    @DisplayName("같은 노선이 여러 번 바뀌면 마지막 변경만 남긴다.")
+    @Test
+    void compact() {
+        MapChangeLog changeLog = new MapChangeLog(100L, 10);
+
+        changeLog.append(MapChangeType.LINE, 1L);
+        changeLog.append(MapChangeType.STATION, 1L);
+        changeLog.append(MapChangeType.LINE, 1L);
+
+        assertThat(changeLog.size()).isEqualTo(2);
+        assertThat(changeLog.version()).isEqualTo(103L);
+        MapChanges changes = changeLog.changesSince(100L);
+        assertThat(changes.getLineIds()).containsExactly(1L);
+        assertThat(changes.getStationIds()).containsExactly(1L);
+        assertThat(changeLog.changesSince(102L).getStationIds()).isEmpty();
+        assertThat(changeLog.changesSince(102L).getLineIds()).containsExactly(1L);
+    }
+
+    @DisplayName("보관 한도를 넘겨 잘려 나간 버전부터는 다시 받아야 한다.")
+    @Test
+    void evict() {
+        MapChangeLog changeLog = new MapChangeLog(100L, 2);
+
+        changeLog.append(MapChangeType.LINE, 1L);
+        changeLog.append(MapChangeType.LINE, 2L);
+        changeLog.append(MapChangeType.LINE, 3L);
+
+        assertThat(changeLog.size()).isEqualTo(2);
+        assertThat(changeLog.changesSince(100L).isReset()).isTrue();
+        assertThat(changeLog.changesSince(101L).getLineIds()).containsExactly(2L, 3L);
+    }
+
+    @DisplayName("대상을 알 수 없는 변경은 이력을 비우고 모두 다시 받게 한다.")
+    @Test
+    void reset() {
+        MapChangeLog changeLog = new MapChangeLog(100L, 10);
+        changeLog.append(MapChangeType.LINE, 1L);
+
+        MapChange change = changeLog.append(MapChangeType.LINE, null);
+
+        assertThat(change.getType()).isEqualTo(MapChangeType.RESET);
+        assertThat(changeLog.changesSince(101L).isReset()).isTrue();
+        assertThat(changeLog.changesSince(change.getVersion()).isReset()).isFalse();
+        assertThat(changeLog.changesSince(change.getVersion() + 1).isReset()).isTrue();
+    }
+
+    @DisplayName("노선의 버전은 그 노선이 마지막으로 바뀐 버전이다.")
+    @Test
+    void versionOf() {
+        MapChangeLog changeLog = new MapChangeLog(100L, 10);
+
+        changeLog.append(MapChangeType.LINE, 1L);
+        changeLog.append(MapChangeType.LINE, 2L);
+        changeLog.append(MapChangeType.STATION, 1L);
+
+        assertThat(changeLog.versionOf(MapChangeType.LINE, 1L)).isEqualTo(101L);
+        assertThat(changeLog.versionOf(MapChangeType.LINE, 3L)).isEqualTo(100L);
+        assertThat(changeLog.versionOf(MapChangeType.LINE)).isEqualTo(102L);
+        assertThat(changeLog.versionOf(MapChangeType.STATION)).isEqualTo(103L);
+    }
+}
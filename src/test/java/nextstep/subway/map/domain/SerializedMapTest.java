@@ -0,0 +1,48 @@
+package nextstep.subway.map.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("직렬화한 노선도")
+public class SerializedMapTest {
+    private static final byte[] JSON = "[{\"name\":\"신분당선\",\"stations\":[]}]".getBytes(StandardCharsets.UTF_8);
+
+    @DisplayName("gzip 본문을 풀면 원래 본문과 같다.")
+    @Test
+    void gzipBody() throws IOException {
+        SerializedMap map = SerializedMap.of(1L, JSON);
+
+        assertThat(map.body(false)).isEqualTo(JSON);
+        assertThat(gunzip(map.body(true))).isEqualTo(JSON);
+    }
+
+    @DisplayName("본문이 같으면 같은 ETag 를, 인코딩이 다르면 다른 ETag 를 쓴다.")
+    @Test
+    void eTag() {
+        SerializedMap map = SerializedMap.of(1L, JSON);
+        SerializedMap sameContent = SerializedMap.of(2L, JSON.clone());
+
+        assertThat(map.eTag(false)).startsWith("\"").endsWith("\"");
+        assertThat(map.eTag(false)).isEqualTo(sameContent.eTag(false));
+        assertThat(map.eTag(true)).isNotEqualTo(map.eTag(false));
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            byte[] buffer = new byte[256];
+            for (int read = in.read(buffer); read > 0; read = in.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,73 @@
+package nextstep.subway.member.application;
+
+import nextstep.subway.member.domain.MemberChangedEvent;
+import nextstep.subway.member.dto.MemberResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("회원 조회 캐시")
+public class MemberCacheTest {
+    private static final MemberResponse MEMBER = new MemberResponse(1L, "email@email.com", 20);
+
+    @DisplayName("id 로 불러온 회원은 id 와 이메일 모두로 캐시에서 응답한다.")
+    @Test
+    void hitByIdAndEmail() {
+        MemberCache memberCache = new MemberCache(10, 60000);
+
+        memberCache.findById(1L, () -> MEMBER);
+        MemberResponse byId = memberCache.findById(1L, () -> new MemberResponse(1L, "other@email.com", 30));
+        MemberResponse byEmail = memberCache.findByEmail("email@email.com", () -> new MemberResponse(1L, "other@email.com", 30));
+
+        assertThat(byId).isSameAs(MEMBER);
+        assertThat(byEmail).isSameAs(MEMBER);
+        assertThat(memberCache.hitCount()).isEqualTo(2);
+        assertThat(memberCache.missCount()).isEqualTo(1);
+    }
+
+    @DisplayName("회원 정보가 바뀌면 id 와 이메일 캐시를 함께 비운다.")
+    @Test
+    void invalidate() {
+        MemberCache memberCache = new MemberCache(10, 60000);
+        memberCache.findByEmail("email@email.com", () -> MEMBER);
+
+        memberCache.onMemberChanged(new MemberChangedEvent(1L));
+        MemberResponse updated = memberCache.findById(1L, () -> new MemberResponse(1L, "new@email.com", 21));
+
+        assertThat(updated.getAge()).isEqualTo(21);
+        assertThat(memberCache.findByEmail("new@email.com", () -> MEMBER)).isSameAs(updated);
+        assertThat(memberCache.size()).isEqualTo(1);
+    }
+
+    @DisplayName("무효화와 겹쳐 불러온 회원은 캐시에 넣지 않는다.")
+    @Test
+    void skipStaleLoad() {
+        MemberCache memberCache = new MemberCache(10, 60000);
+
+        memberCache.findById(1L, () -> {
+            memberCache.onMemberChanged(new MemberChangedEvent(1L));
+            return MEMBER;
+        });
+
+        assertThat(memberCache.size()).isZero();
+    }
+
+    @DisplayName("유효 시간이 지났거나 최대 크기를 넘은 회원은 다시 불러온다.")
+    @Test
+    void expireAndEvict() {
+        MemberCache expiring = new MemberCache(10, 0);
+        expiring.findById(1L, () -> MEMBER);
+        expiring.findById(1L, () -> MEMBER);
+        assertThat(expiring.expirationCount()).isEqualTo(1);
+        assertThat(expiring.missCount()).isEqualTo(2);
+
+        MemberCache bounded = new MemberCache(1, 60000);
+        bounded.findById(1L, () -> MEMBER);
+        bounded.findById(2L, () -> new MemberResponse(2L, "second@email.com", 30));
+        assertThat(bounded.size()).isEqualTo(1);
+        assertThat(bounded.evictionCount()).isEqualTo(1);
+        bounded.findByEmail("email@email.com", () -> MEMBER);
+        assertThat(bounded.missCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,82 @@
+package nextstep.subway.member.application;
+
+import nextstep.subway.member.domain.Pbkdf2Password;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비밀번호 해시 서비스")
+public class PasswordServiceTest {
+    private static final String PASSWORD = "password";
+
+    @DisplayName("목표 시간이 없으면 최소 반복 횟수로 해시한다.")
+    @Test
+    void calibrateToMinIterations() {
+        PasswordService passwordService = new PasswordService(0, 1000, 1, 4);
+
+        String hash = passwordService.encode(PASSWORD);
+
+        assertThat(Pbkdf2Password.iterationsOf(hash)).isEqualTo(1000);
+        assertThat(passwordService.matches(PASSWORD, hash)).isTrue();
+        assertThat(passwordService.needsUpgrade(hash)).isFalse();
+    }
+
+    @DisplayName("목표 시간에 맞춰 반복 횟수를 늘리고 그보다 적은 해시는 다시 해시할 대상이 된다.")
+    @Test
+    void calibrateToTargetTime() {
+        PasswordService passwordService = new PasswordService(100, 1000, 1, 4);
+
+        int iterations = Pbkdf2Password.iterationsOf(passwordService.encode(PASSWORD));
+
+        assertThat(iterations).isGreaterThan(1000);
+        assertThat(iterations % 10_000).isZero();
+        assertThat(passwordService.needsUpgrade(Pbkdf2Password.hash(PASSWORD, 1000))).isTrue();
+    }
+
+    @DisplayName("해시를 기다리는 요청이 가득 차면 기다리지 않고 거절한다.")
+    @Test
+    void rejectWhenQueueIsFull() throws InterruptedException {
+        PasswordService passwordService = new PasswordService(0, 500_000, 1, 1);
+        ExecutorService callers = Executors.newFixedThreadPool(6);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return passwordService.encode(PASSWORD);
+                }));
+            }
+            start.countDown();
+
+            int hashed = 0;
+            int rejected = 0;
+            for (Future<String> result : results) {
+                try {
+                    result.get();
+                    hashed++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(PasswordHashingBusyException.class);
+                    rejected++;
+                }
+            }
+            assertThat(hashed).isGreaterThan(0);
+            assertThat(rejected).isGreaterThan(0);
+            assertThat(PasswordHashingBusyException.class.getAnnotation(ResponseStatus.class).value())
+                    .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package nextstep.subway.member.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PBKDF2 비밀번호 해시")
+public class Pbkdf2PasswordTest {
+    private static final String PASSWORD = "password";
+
+    @DisplayName("같은 비밀번호도 솔트가 달라 매번 다른 해시가 되지만 모두 일치한다.")
+    @Test
+    void hashWithSalt() {
+        String first = Pbkdf2Password.hash(PASSWORD, 1000);
+        String second = Pbkdf2Password.hash(PASSWORD, 1000);
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(Pbkdf2Password.matches(PASSWORD, first)).isTrue();
+        assertThat(Pbkdf2Password.matches(PASSWORD, second)).isTrue();
+        assertThat(Pbkdf2Password.matches("wrong", first)).isFalse();
+        assertThat(Pbkdf2Password.iterationsOf(first)).isEqualTo(1000);
+    }
+
+    @DisplayName("해시되지 않은 이전 비밀번호는 평문으로 비교하고 반복 횟수는 0 이다.")
+    @Test
+    void legacyPassword() {
+        assertThat(Pbkdf2Password.isHashed(PASSWORD)).isFalse();
+        assertThat(Pbkdf2Password.matches(PASSWORD, PASSWORD)).isTrue();
+        assertThat(Pbkdf2Password.matches("wrong", PASSWORD)).isFalse();
+        assertThat(Pbkdf2Password.iterationsOf(PASSWORD)).isZero();
+    }
+
+    @DisplayName("형식이 잘못된 해시는 예외 없이 일치하지 않는다.")
+    @Test
+    void malformedHash() {
+        String hash = Pbkdf2Password.hash(PASSWORD, 1000);
+        String[] parts = hash.split("\\$");
+
+        assertThat(Pbkdf2Password.matches(PASSWORD, "pbkdf2$")).isFalse();
+        assertThat(Pbkdf2Password.matches(PASSWORD, "pbkdf2$many$" + parts[2] + "$" + parts[3])).isFalse();
+        assertThat(Pbkdf2Password.matches(PASSWORD, "pbkdf2$0$" + parts[2] + "$" + parts[3])).isFalse();
+        assertThat(Pbkdf2Password.matches(PASSWORD, "pbkdf2$1000$!!!$" + parts[3])).isFalse();
+        assertThat(Pbkdf2Password.matches(PASSWORD, "pbkdf2$1000$$" + parts[3])).isFalse();
+        assertThat(Pbkdf2Password.iterationsOf("pbkdf2$many$" + parts[2] + "$" + parts[3])).isZero();
+    }
+}
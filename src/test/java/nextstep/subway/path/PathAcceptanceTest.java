@@ -1,9 +1,361 @@
 package nextstep.subway.path;
 
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
 import nextstep.subway.AcceptanceTest;
+import nextstep.subway.auth.acceptance.AuthAcceptanceTest;
+import nextstep.subway.line.acceptance.LineAcceptanceTest;
+import nextstep.subway.line.acceptance.LineSectionAcceptanceTest;
+import nextstep.subway.line.dto.LineRequest;
+import nextstep.subway.line.dto.LineResponse;
+import nextstep.subway.member.MemberAcceptanceTest;
+import nextstep.subway.path.dto.DistanceMatrixRequest;
+import nextstep.subway.path.dto.DistanceMatrixResponse;
+import nextstep.subway.path.dto.LegResponse;
+import nextstep.subway.path.dto.PathResponse;
+import nextstep.subway.path.dto.PathsResponse;
+import nextstep.subway.path.dto.ReachableResponse;
+import nextstep.subway.path.dto.ReachableStationResponse;
+import nextstep.subway.station.StationAcceptanceTest;
+import nextstep.subway.station.dto.StationResponse;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 
 @DisplayName("지하철 경로 조회")
 public class PathAcceptanceTest extends AcceptanceTest {
+    private LineResponse 신분당선;
+    private LineResponse 이호선;
+    private LineResponse 삼호선;
+    private StationResponse 강남역;
+    private StationResponse 양재역;
+    private StationResponse 교대역;
+    private StationResponse 남부터미널역;
+    private StationResponse 광교역;
+
+    /**
+     * 교대역    --- *2호선* ---   강남역
+     * |                        |
+     * *3호선*                   *신분당선*
+     * |                        |
+     * 남부터미널역  --- *3호선* ---   양재
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        강남역 = StationAcceptanceTest.지하철역_등록되어_있음("강남역").as(StationResponse.class);
+        양재역 = StationAcceptanceTest.지하철역_등록되어_있음("양재역").as(StationResponse.class);
+        교대역 = StationAcceptanceTest.지하철역_등록되어_있음("교대역").as(StationResponse.class);
+        남부터미널역 = StationAcceptanceTest.지하철역_등록되어_있음("남부터미널역").as(StationResponse.class);
+        광교역 = StationAcceptanceTest.지하철역_등록되어_있음("광교역").as(StationResponse.class);
+
+        신분당선 = LineAcceptanceTest.지하철_노선_등록되어_있음(new LineRequest("신분당선", "bg-red-600", 강남역.getId(), 양재역.getId(), 10, 900)).as(LineResponse.class);
+        이호선 = LineAcceptanceTest.지하철_노선_등록되어_있음(new LineRequest("이호선", "bg-green-600", 교대역.getId(), 강남역.getId(), 10)).as(LineResponse.class);
+        삼호선 = LineAcceptanceTest.지하철_노선_등록되어_있음(new LineRequest("삼호선", "bg-orange-600", 교대역.getId(), 양재역.getId(), 5)).as(LineResponse.class);
+
+        LineSectionAcceptanceTest.지하철_노선에_지하철역_등록_요청(삼호선, 교대역, 남부터미널역, 3);
+    }
+
+    @DisplayName("두 역 사이의 최단 경로를 조회한다.")
+    @Test
+    void findPath() {
+        // when
+        ExtractableResponse<Response> response = 최단_경로_조회_요청(교대역, 양재역);
+
+        // then
+        최단_경로_응답됨(response);
+        최단_경로_역_목록_포함됨(response, Arrays.asList(교대역, 남부터미널역, 양재역));
+        최단_경로_거리_응답됨(response, 5);
+        최단_경로_요금_응답됨(response, 1250);
+    }
+
+    @DisplayName("거리 요금에 경로에 포함된 노선의 추가 요금을 더한다.")
+    @Test
+    void findPathWithLineExtraFare() {
+        // when
+        ExtractableResponse<Response> response = 최단_경로_조회_요청(강남역, 남부터미널역);
+
+        // then
+        최단_경로_역_목록_포함됨(response, Arrays.asList(강남역, 양재역, 남부터미널역));
+        최단_경로_거리_응답됨(response, 12);
+        최단_경로_요금_응답됨(response, 2250);
+    }
+
+    @DisplayName("최단 경로를 노선별 구간과 환승역으로 나누어 조회한다.")
+    @Test
+    void findPathWithLegs() {
+        // when
+        ExtractableResponse<Response> response = 최단_경로_조회_요청(강남역, 남부터미널역);
+
+        // then
+        List<LegResponse> legs = response.as(PathResponse.class).getLegs();
+        assertThat(legs).extracting(LegResponse::getLineId).containsExactly(신분당선.getId(), 삼호선.getId());
+        assertThat(legs).extracting(LegResponse::getDistance).containsExactly(10, 2);
+        assertThat(legs.get(0).getStations()).extracting(StationResponse::getId).containsExactly(강남역.getId(), 양재역.getId());
+        assertThat(legs.get(1).getStations()).extracting(StationResponse::getId).containsExactly(양재역.getId(), 남부터미널역.getId());
+    }
+
+    @DisplayName("로그인한 어린이는 할인된 요금으로 조회한다.")
+    @Test
+    void findPathWithChildDiscount() {
+        // given
+        MemberAcceptanceTest.회원_생성을_요청(MemberAcceptanceTest.EMAIL, MemberAcceptanceTest.PASSWORD, 10);
+        String accessToken = AuthAcceptanceTest.로그인되어_있음(MemberAcceptanceTest.EMAIL, MemberAcceptanceTest.PASSWORD);
+
+        // when
+        ExtractableResponse<Response> response = 최단_경로_조회_요청(accessToken, 강남역, 남부터미널역);
+
+        // then
+        최단_경로_요금_응답됨(response, 1300);
+    }
+
+    @DisplayName("구간이 변경되면 변경된 노선도로 최단 경로를 조회한다.")
+    @Test
+    void findPathAfterSectionChanged() {
+        // given
+        최단_경로_조회_요청(교대역, 양재역);
+        LineSectionAcceptanceTest.지하철_노선에_지하철역_제외_요청(삼호선, 남부터미널역);
+
+        // when
+        ExtractableResponse<Response> response = 최단_경로_조회_요청(교대역, 양재역);
+
+        // then
+        최단_경로_역_목록_포함됨(response, Arrays.asList(교대역, 양재역));
+    }
+
+    @DisplayName("출발역과 도착역이 같으면 경로를 조회할 수 없다.")
+    @Test
+    void findPathWithSameStation() {
+        // when
+        ExtractableResponse<Response> response = 최단_경로_조회_요청(교대역, 교대역);
+
+        // then
+        최단_경로_조회_실패됨(response);
+    }
+
+    @DisplayName("노선에 등록되지 않은 역으로는 경로를 조회할 수 없다.")
+    @Test
+    void findPathWithNotConnectedStation() {
+        // when
+        ExtractableResponse<Response> response = 최단_경로_조회_요청(교대역, 광교역);
+
+        // then
+        최단_경로_조회_실패됨(response);
+    }
+
+    @DisplayName("환승이 가장 적은 경로를 조회한다.")
+    @Test
+    void findMinTransferPath() {
+        // given
+        LineAcceptanceTest.지하철_노선_등록되어_있음(new LineRequest("사호선", "bg-blue-600", 강남역.getId(), 남부터미널역.getId(), 20));
+
+        // when
+        ExtractableResponse<Response> response = 경로_조회_요청(강남역, 남부터미널역, "min-transfer");
+
+        // then
+        최단_경로_응답됨(response);
+        최단_경로_역_목록_포함됨(response, Arrays.asList(강남역, 남부터미널역));
+        최단_경로_거리_응답됨(response, 20);
+    }
+
+    @DisplayName("거리와 환승 횟수의 파레토 경로들을 조회한다.")
+    @Test
+    void findParetoPaths() {
+        // given
+        LineAcceptanceTest.지하철_노선_등록되어_있음(new LineRequest("사호선", "bg-blue-600", 강남역.getId(), 남부터미널역.getId(), 20));
+
+        // when
+        ExtractableResponse<Response> response = 경로_조회_요청(강남역, 남부터미널역, "pareto");
+
+        // then
+        최단_경로_응답됨(response);
+        List<PathResponse> paths = response.as(PathsResponse.class).getPaths();
+        assertThat(paths).extracting(PathResponse::getDistance).containsExactly(12, 20);
+        assertThat(paths).extracting(PathResponse::getTransfers).containsExactly(1, 0);
+    }
+
+    @DisplayName("경로 조회 방식은 대소문자를 가리지 않는다.")
+    @Test
+    void findParetoPathsWithUpperCaseMode() {
+        // given
+        LineAcceptanceTest.지하철_노선_등록되어_있음(new LineRequest("사호선", "bg-blue-600", 강남역.getId(), 남부터미널역.getId(), 20));
+
+        // when
+        ExtractableResponse<Response> response = 경로_조회_요청(강남역, 남부터미널역, "PARETO");
+
+        // then
+        최단_경로_응답됨(response);
+        List<PathResponse> paths = response.as(PathsResponse.class).getPaths();
+        assertThat(paths).extracting(PathResponse::getDistance).containsExactly(12, 20);
+    }
+
+    @DisplayName("지원하지 않는 방식으로는 경로를 조회할 수 없다.")
+    @Test
+    void findPathWithUnknownMode() {
+        // when
+        ExtractableResponse<Response> response = 경로_조회_요청(강남역, 남부터미널역, "fastest");
+
+        // then
+        최단_경로_조회_실패됨(response);
+    }
+
+    @DisplayName("두 역 사이의 대안 경로를 짧은 순서대로 조회한다.")
+    @Test
+    void findAlternatives() {
+        // when
+        ExtractableResponse<Response> response = 대안_경로_조회_요청(교대역, 양재역, 3);
+
+        // then
+        최단_경로_응답됨(response);
+        List<PathResponse> paths = response.as(PathsResponse.class).getPaths();
+        assertThat(paths).extracting(PathResponse::getDistance).containsExactly(5, 20);
+        assertThat(paths.get(1).getStations()).extracting(StationResponse::getId)
+                .containsExactly(교대역.getId(), 강남역.getId(), 양재역.getId());
+    }
+
+    @DisplayName("조회할 수 있는 수를 넘는 대안 경로는 조회할 수 없다.")
+    @Test
+    void findAlternativesWithTooManyPaths() {
+        // when
+        ExtractableResponse<Response> response = 대안_경로_조회_요청(교대역, 양재역, 11);
+
+        // then
+        최단_경로_조회_실패됨(response);
+    }
+
+    @DisplayName("여러 출발역과 도착역 사이의 거리 행렬을 조회한다.")
+    @Test
+    void findDistanceMatrix() {
+        // when
+        ExtractableResponse<Response> response = 거리_행렬_조회_요청(Arrays.asList(교대역, 강남역), Arrays.asList(양재역, 교대역, 광교역));
+
+        // then
+        최단_경로_응답됨(response);
+        assertThat(response.as(DistanceMatrixResponse.class).getDistances())
+                .isEqualTo(new int[][]{{5, 0, -1}, {10, 10, -1}});
+    }
+
+    @DisplayName("출발역에서 주어진 거리 안에 닿는 역과 거리를 조회한다.")
+    @Test
+    void findReachable() {
+        // when
+        ExtractableResponse<Response> response = 도달_가능한_역_조회_요청(교대역, 5);
+
+        // then
+        최단_경로_응답됨(response);
+        List<ReachableStationResponse> stations = response.as(ReachableResponse.class).getStations();
+        assertThat(stations).extracting(ReachableStationResponse::getId)
+                .containsExactly(교대역.getId(), 남부터미널역.getId(), 양재역.getId());
+        assertThat(stations).extracting(ReachableStationResponse::getDistance)
+                .containsExactly(0, 3, 5);
+    }
+
+    @DisplayName("거리가 음수이면 도달 가능한 역을 조회할 수 없다.")
+    @Test
+    void findReachableWithNegativeDistance() {
+        // when
+        ExtractableResponse<Response> response = 도달_가능한_역_조회_요청(교대역, -1);
+
+        // then
+        최단_경로_조회_실패됨(response);
+    }
+
+    public static ExtractableResponse<Response> 최단_경로_조회_요청(StationResponse source, StationResponse target) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/paths?source={source}&target={target}", source.getId(), target.getId())
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 최단_경로_조회_요청(String accessToken, StationResponse source, StationResponse target) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(accessToken)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/paths?source={source}&target={target}", source.getId(), target.getId())
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 경로_조회_요청(StationResponse source, StationResponse target, String mode) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/paths?source={source}&target={target}&mode={mode}", source.getId(), target.getId(), mode)
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 대안_경로_조회_요청(StationResponse source, StationResponse target, int k) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/paths/alternatives?source={source}&target={target}&k={k}", source.getId(), target.getId(), k)
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 도달_가능한_역_조회_요청(StationResponse source, int maxDistance) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/paths/reachable?source={source}&maxDistance={maxDistance}", source.getId(), maxDistance)
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 거리_행렬_조회_요청(List<StationResponse> sources, List<StationResponse> targets) {
+        DistanceMatrixRequest request = new DistanceMatrixRequest(
+                sources.stream().map(StationResponse::getId).collect(Collectors.toList()),
+                targets.stream().map(StationResponse::getId).collect(Collectors.toList()));
+
+        return RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when().post("/paths/matrix")
+                .then().log().all()
+                .extract();
+    }
+
+    public static void 최단_경로_응답됨(ExtractableResponse<Response> response) {
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    public static void 최단_경로_역_목록_포함됨(ExtractableResponse<Response> response, List<StationResponse> expectedStations) {
+        List<Long> stationIds = response.as(PathResponse.class).getStations().stream()
+                .map(StationResponse::getId)
+                .collect(Collectors.toList());
+
+        List<Long> expectedStationIds = expectedStations.stream()
+                .map(StationResponse::getId)
+                .collect(Collectors.toList());
+
+        assertThat(stationIds).containsExactlyElementsOf(expectedStationIds);
+    }
+
+    public static void 최단_경로_거리_응답됨(ExtractableResponse<Response> response, int distance) {
+        assertThat(response.as(PathResponse.class).getDistance()).isEqualTo(distance);
+    }
+
+    public static void 최단_경로_요금_응답됨(ExtractableResponse<Response> response, int fare) {
+        assertThat(response.as(PathResponse.class).getFare()).isEqualTo(fare);
+    }
+
+    public static void 최단_경로_조회_실패됨(ExtractableResponse<Response> response) {
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
 }
@@ -0,0 +1,55 @@
+package nextstep.subway.path.application;
+
+import nextstep.subway.path.domain.PathMode;
+import nextstep.subway.path.dto.PathResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("경로 조회 결과 캐시")
+public class PathCacheTest {
+    @DisplayName("같은 노선도 버전의 같은 구간은 캐시에서 응답한다.")
+    @Test
+    void hit() {
+        PathCache pathCache = new PathCache(10);
+        PathResponse response = new PathResponse(Collections.emptyList(), Collections.emptyList(), 5, 1250, 0);
+
+        pathCache.get(1L, 2L, 1L, PathMode.DISTANCE, () -> response);
+        PathResponse cached = pathCache.get(1L, 2L, 1L, PathMode.DISTANCE, () -> new PathResponse(Collections.emptyList(), Collections.emptyList(), 10, 1250, 0));
+
+        assertThat(cached).isSameAs(response);
+        assertThat(pathCache.hitCount()).isEqualTo(1);
+        assertThat(pathCache.missCount()).isEqualTo(1);
+    }
+
+    @DisplayName("노선도 버전이 바뀌면 이전 결과를 사용하지 않는다.")
+    @Test
+    void missAfterVersionChanged() {
+        PathCache pathCache = new PathCache(10);
+        pathCache.get(1L, 2L, 1L, PathMode.DISTANCE, () -> new PathResponse(Collections.emptyList(), Collections.emptyList(), 5, 1250, 0));
+
+        PathResponse response = pathCache.get(1L, 2L, 2L, PathMode.DISTANCE, () -> new PathResponse(Collections.emptyList(), Collections.emptyList(), 10, 1250, 0));
+
+        assertThat(response.getDistance()).isEqualTo(10);
+        assertThat(pathCache.missCount()).isEqualTo(2);
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 결과를 내보낸다.")
+    @Test
+    void evict() {
+        PathCache pathCache = new PathCache(2);
+        pathCache.get(1L, 2L, 1L, PathMode.DISTANCE, () -> new PathResponse(Collections.emptyList(), Collections.emptyList(), 1, 1250, 0));
+        pathCache.get(1L, 3L, 1L, PathMode.DISTANCE, () -> new PathResponse(Collections.emptyList(), Collections.emptyList(), 2, 1250, 0));
+        pathCache.get(1L, 2L, 1L, PathMode.DISTANCE, () -> new PathResponse(Collections.emptyList(), Collections.emptyList(), 1, 1250, 0));
+
+        pathCache.get(1L, 4L, 1L, PathMode.DISTANCE, () -> new PathResponse(Collections.emptyList(), Collections.emptyList(), 3, 1250, 0));
+
+        assertThat(pathCache.size()).isEqualTo(2);
+        assertThat(pathCache.evictionCount()).isEqualTo(1);
+        pathCache.get(1L, 2L, 1L, PathMode.DISTANCE, () -> new PathResponse(Collections.emptyList(), Collections.emptyList(), 1, 1250, 0));
+        assertThat(pathCache.hitCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,118 @@
+package nextstep.subway.path.application;
+
+import nextstep.subway.line.application.NetworkChangedEvent;
+import nextstep.subway.line.application.NetworkVersion;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.LineChangedEvent;
+import nextstep.subway.line.domain.SectionChanges;
+import nextstep.subway.line.domain.SectionRepository;
+import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static nextstep.subway.station.StationFixture.station;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("노선도 스냅샷 관리")
+@ExtendWith(MockitoExtension.class)
+public class SubwayGraphProviderTest {
+    @Mock
+    private SectionRepository sectionRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private NetworkVersion networkVersion;
+    private SubwayGraphProvider graphProvider;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 광교역;
+    private Line 신분당선;
+
+    @BeforeEach
+    void setUp() {
+        networkVersion = new NetworkVersion(eventPublisher);
+        graphProvider = new SubwayGraphProvider(sectionRepository, networkVersion, "dijkstra", 8);
+        강남역 = station(1L, "강남역");
+        양재역 = station(2L, "양재역");
+        광교역 = station(3L, "광교역");
+        신분당선 = new Line("신분당선", "red", 강남역, 광교역, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        graphProvider.shutdown();
+    }
+
+    @DisplayName("구간 변경을 반영할 수 없으면 백그라운드에서 다시 만들고, 그동안 변경한 쪽과 조회는 기다리지 않는다.")
+    @Test
+    void rebuildInBackground() throws InterruptedException {
+        // given
+        CountDownLatch rebuilding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(sectionRepository.findAllWithStations())
+                .thenReturn(신분당선.getSections())
+                .thenAnswer(invocation -> {
+                    rebuilding.countDown();
+                    release.await();
+                    return 신분당선.getSections();
+                });
+        SubwayGraph before = graphProvider.current();
+
+        // when
+        networkVersion.onLineChanged(new LineChangedEvent(1L));
+        assertTimeoutPreemptively(Duration.ofSeconds(1),
+                () -> graphProvider.onNetworkChanged(new NetworkChangedEvent(networkVersion.current())));
+        assertThat(rebuilding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        SubwayGraph during = assertTimeoutPreemptively(Duration.ofSeconds(1), () -> graphProvider.current());
+        assertThat(during).isSameAs(before);
+
+        release.countDown();
+        assertThat(스냅샷이_바뀔_때까지_조회(before).getVersion()).isEqualTo(networkVersion.current());
+    }
+
+    @DisplayName("구간 변경이 함께 오면 저장소를 다시 읽지 않고 스냅샷을 바꾼다.")
+    @Test
+    void applyChangesWithoutReload() {
+        // given
+        when(sectionRepository.findAllWithStations()).thenReturn(신분당선.getSections());
+        SubwayGraph before = graphProvider.current();
+
+        // when
+        SectionChanges changes = 신분당선.addSection(강남역, 양재역, 3);
+        networkVersion.onLineChanged(new LineChangedEvent(1L, changes));
+        graphProvider.onNetworkChanged(new NetworkChangedEvent(networkVersion.current(), changes));
+
+        // then
+        SubwayGraph after = graphProvider.current();
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(after.contains(양재역.getId())).isTrue();
+        assertThat(before.contains(양재역.getId())).isFalse();
+        verify(sectionRepository, times(1)).findAllWithStations();
+    }
+
+    private SubwayGraph 스냅샷이_바뀔_때까지_조회(SubwayGraph before) throws InterruptedException {
+        SubwayGraph current = graphProvider.current();
+        for (int i = 0; i < 50 && current == before; i++) {
+            Thread.sleep(100);
+            current = graphProvider.current();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,24 @@
+package nextstep.subway.path.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("나이별 요금 할인")
+public class AgeDiscountTest {
+    @DisplayName("어린이는 350원을 공제한 금액의 50%, 청소년은 20%를 할인한다.")
+    @ParameterizedTest
+    @CsvSource({"5, 1350", "6, 850", "12, 850", "13, 1150", "18, 1150", "19, 1350"})
+    void apply(int age, int fare) {
+        assertThat(AgeDiscount.apply(1350, age)).isEqualTo(fare);
+    }
+
+    @DisplayName("나이를 모르면 할인하지 않는다.")
+    @Test
+    void applyWithoutAge() {
+        assertThat(AgeDiscount.apply(1350, null)).isEqualTo(1350);
+    }
+}
@@ -0,0 +1,72 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static nextstep.subway.station.StationFixture.station;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Contraction Hierarchy 최단 경로 탐색")
+public class ContractionHierarchySearchTest {
+    @Test
+    void findPath() {
+        // given
+        Station 강남역 = station(1L, "강남역");
+        Station 양재역 = station(2L, "양재역");
+        Station 교대역 = station(3L, "교대역");
+        Station 남부터미널역 = station(4L, "남부터미널역");
+        Line 신분당선 = new Line("신분당선", "red");
+        Line 이호선 = new Line("2호선", "green");
+        Line 삼호선 = new Line("3호선", "orange");
+        SubwayGraph graph = SubwayGraph.of(1L, Arrays.asList(
+                new Section(신분당선, 강남역, 양재역, 10),
+                new Section(이호선, 교대역, 강남역, 10),
+                new Section(삼호선, 교대역, 남부터미널역, 3),
+                new Section(삼호선, 남부터미널역, 양재역, 2)));
+
+        // when
+        Path path = new ContractionHierarchySearch().findPath(ContractionHierarchy.of(graph), 강남역.getId(), 남부터미널역.getId());
+
+        // then
+        assertThat(path.getStations()).containsExactly(강남역, 양재역, 남부터미널역);
+        assertThat(path.getDistance()).isEqualTo(12);
+    }
+
+    @DisplayName("임의의 노선도에서 다익스트라와 같은 거리를 찾는다.")
+    @Test
+    void sameDistanceAsDijkstra() {
+        // given
+        Random random = new Random(2021);
+        Line line = new Line("임의선", "black");
+        List<Station> stations = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            stations.add(station(id, "역" + id));
+        }
+        List<Section> sections = new ArrayList<>();
+        for (int i = 1; i < stations.size(); i++) {
+            sections.add(new Section(line, stations.get(random.nextInt(i)), stations.get(i), 1 + random.nextInt(20)));
+        }
+        for (int i = 0; i < 200; i++) {
+            sections.add(new Section(line, stations.get(random.nextInt(200)), stations.get(random.nextInt(200)), 1 + random.nextInt(20)));
+        }
+        SubwayGraph graph = SubwayGraph.of(1L, sections);
+        ContractionHierarchy hierarchy = ContractionHierarchy.of(graph);
+        DijkstraSearch dijkstra = new DijkstraSearch();
+        ContractionHierarchySearch search = new ContractionHierarchySearch();
+
+        // when, then
+        for (int i = 0; i < 500; i++) {
+            int source = random.nextInt(graph.size());
+            int target = random.nextInt(graph.size());
+            assertThat(search.search(hierarchy, source, target)).isEqualTo(dijkstra.search(graph, source, target));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static nextstep.subway.station.StationFixture.station;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CSR 그래프 최단 경로 탐색")
+public class DijkstraSearchTest {
+    private Station 강남역;
+    private Station 양재역;
+    private Station 교대역;
+    private Station 남부터미널역;
+    private Station 광교역;
+    private Station 판교역;
+    private SubwayGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = station(1L, "강남역");
+        양재역 = station(2L, "양재역");
+        교대역 = station(3L, "교대역");
+        남부터미널역 = station(4L, "남부터미널역");
+        광교역 = station(5L, "광교역");
+        판교역 = station(6L, "판교역");
+
+        Line 신분당선 = new Line("신분당선", "red");
+        Line 이호선 = new Line("2호선", "green");
+        Line 삼호선 = new Line("3호선", "orange");
+        Line 경강선 = new Line("경강선", "blue");
+
+        graph = SubwayGraph.of(1L, Arrays.asList(
+                new Section(신분당선, 강남역, 양재역, 10),
+                new Section(이호선, 교대역, 강남역, 10),
+                new Section(삼호선, 교대역, 남부터미널역, 3),
+                new Section(삼호선, 남부터미널역, 양재역, 2),
+                new Section(경강선, 광교역, 판교역, 1)));
+    }
+
+    @Test
+    void findPath() {
+        Path path = new DijkstraSearch().findPath(graph, 교대역.getId(), 양재역.getId());
+
+        assertThat(path.getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(path.getDistance()).isEqualTo(5);
+    }
+
+    @DisplayName("탐색 객체를 재사용해도 이전 탐색 결과가 남지 않는다.")
+    @Test
+    void reuseSearch() {
+        DijkstraSearch search = new DijkstraSearch();
+        search.findPath(graph, 교대역.getId(), 양재역.getId());
+
+        Path path = search.findPath(graph, 강남역.getId(), 남부터미널역.getId());
+
+        assertThat(path.getStations()).containsExactly(강남역, 양재역, 남부터미널역);
+        assertThat(path.getDistance()).isEqualTo(12);
+    }
+
+    @DisplayName("같은 노선을 연달아 타는 구간을 하나의 구간으로 묶는다.")
+    @Test
+    void findPathWithLegs() {
+        Path path = new DijkstraSearch().findPath(graph, 강남역.getId(), 남부터미널역.getId());
+
+        assertThat(path.getLegs()).extracting(leg -> leg.getLine().getName()).containsExactly("신분당선", "3호선");
+        assertThat(path.getLegs().get(0).getStations()).containsExactly(강남역, 양재역);
+        assertThat(path.getLegs().get(1).getStations()).containsExactly(양재역, 남부터미널역);
+        assertThat(path.getLegs()).extracting(Leg::getDistance).containsExactly(10, 2);
+        assertThat(path.getTransfers()).isEqualTo(1);
+    }
+
+    @DisplayName("같은 역 사이를 잇는 노선이 여럿이면 안내하는 노선과 요금을 매기는 노선이 같다.")
+    @Test
+    void findPathWithParallelLines() {
+        // given
+        Line 신분당선 = new Line("신분당선", "red", 900);
+        Line 이호선 = new Line("2호선", "green");
+        Line 삼호선 = new Line("3호선", "orange");
+        Line 사호선 = new Line("4호선", "blue", 500);
+        SubwayGraph parallel = SubwayGraph.of(1L, Arrays.asList(
+                new Section(신분당선, 강남역, 양재역, 5),
+                new Section(이호선, 강남역, 양재역, 5),
+                new Section(신분당선, 양재역, 광교역, 5),
+                new Section(삼호선, 양재역, 광교역, 5),
+                new Section(사호선, 교대역, 남부터미널역, 5),
+                new Section(이호선, 교대역, 남부터미널역, 5)));
+
+        // when
+        Path transferless = new DijkstraSearch().findPath(parallel, 강남역.getId(), 광교역.getId());
+        Path cheaper = new DijkstraSearch().findPath(parallel, 교대역.getId(), 남부터미널역.getId());
+
+        // then
+        assertThat(transferless.getLegs()).extracting(leg -> leg.getLine().getName()).containsExactly("신분당선");
+        assertThat(transferless.getFare()).isEqualTo(parallel.fare(10, 900));
+        assertThat(cheaper.getLegs()).extracting(leg -> leg.getLine().getName()).containsExactly("2호선");
+        assertThat(cheaper.getFare()).isEqualTo(parallel.fare(5, 0));
+    }
+
+    @DisplayName("한 번의 탐색으로 여러 도착역까지의 거리를 구한다.")
+    @Test
+    void findDistances() {
+        int[] distances = new DijkstraSearch().findDistances(graph, 교대역.getId(),
+                Arrays.asList(양재역.getId(), 강남역.getId(), 교대역.getId(), 광교역.getId(), 100L));
+
+        assertThat(distances).containsExactly(5, 10, 0, -1, -1);
+    }
+
+    @DisplayName("거리 안에 닿는 역만 가까운 순서로 구하고 그보다 먼 역은 확정하지 않는다.")
+    @Test
+    void findReachable() {
+        DijkstraSearch search = new DijkstraSearch();
+
+        int[] nodes = search.findReachable(graph, 교대역.getId(), 5);
+
+        assertThat(Arrays.stream(nodes).mapToObj(graph::station)).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(Arrays.stream(nodes).map(search::distanceTo)).containsExactly(0, 3, 5);
+        assertThat(search.settledCount()).isEqualTo(3);
+    }
+
+    @Test
+    void findReachableWithNegativeDistance() {
+        assertThatThrownBy(() -> new DijkstraSearch().findReachable(graph, 교대역.getId(), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findPathWithSameStation() {
+        assertThatThrownBy(() -> new DijkstraSearch().findPath(graph, 강남역.getId(), 강남역.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findPathWithNotConnectedStation() {
+        assertThatThrownBy(() -> new DijkstraSearch().findPath(graph, 강남역.getId(), 광교역.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void findPathWithUnknownStation() {
+        assertThatThrownBy(() -> new DijkstraSearch().findPath(graph, 강남역.getId(), 100L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
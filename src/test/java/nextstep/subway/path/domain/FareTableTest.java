@@ -0,0 +1,31 @@
+package nextstep.subway.path.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("거리별 요금표")
+public class FareTableTest {
+    @DisplayName("10km 까지는 기본 요금, 50km 까지는 5km 마다, 그 이후는 8km 마다 100원을 더한다.")
+    @ParameterizedTest
+    @CsvSource({"1, 1250", "10, 1250", "11, 1350", "15, 1350", "16, 1450", "50, 2050", "51, 2150", "58, 2150", "59, 2250"})
+    void distanceFare(int distance, int fare) {
+        assertThat(FareTable.of(60).distanceFare(distance)).isEqualTo(fare);
+    }
+
+    @DisplayName("요금표보다 먼 거리도 같은 규칙으로 계산한다.")
+    @ParameterizedTest
+    @CsvSource({"59, 2250", "100, 2750"})
+    void distanceFareOutOfTable(int distance, int fare) {
+        assertThat(FareTable.of(10).distanceFare(distance)).isEqualTo(fare);
+    }
+
+    @DisplayName("추가 요금을 더한다.")
+    @ParameterizedTest
+    @CsvSource({"12, 0, 1350", "12, 900, 2250"})
+    void fare(int distance, int extraFare, int fare) {
+        assertThat(FareTable.of(60).fare(distance, extraFare)).isEqualTo(fare);
+    }
+}
@@ -0,0 +1,94 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static nextstep.subway.station.StationFixture.station;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("최소 환승, 다기준(거리, 환승) 경로 탐색")
+public class MultiCriteriaSearchTest {
+    private Station 강남역;
+    private Station 양재역;
+    private Station 교대역;
+    private Station 남부터미널역;
+    private Station 광교역;
+    private SubwayGraph graph;
+
+    /**
+     * 교대역    --- *2호선* (10) ---   강남역
+     * |                              |
+     * *3호선* (3)     *4호선* (20)     *신분당선* (10)
+     * |                              |
+     * 남부터미널역  --- *3호선* (2) ---   양재
+     */
+    @BeforeEach
+    void setUp() {
+        강남역 = station(1L, "강남역");
+        양재역 = station(2L, "양재역");
+        교대역 = station(3L, "교대역");
+        남부터미널역 = station(4L, "남부터미널역");
+        광교역 = station(5L, "광교역");
+        Line 신분당선 = new Line("신분당선", "red");
+        Line 이호선 = new Line("2호선", "green");
+        Line 삼호선 = new Line("3호선", "orange");
+        Line 사호선 = new Line("4호선", "blue");
+        graph = SubwayGraph.of(1L, Arrays.asList(
+                new Section(신분당선, 강남역, 양재역, 10),
+                new Section(이호선, 교대역, 강남역, 10),
+                new Section(삼호선, 교대역, 남부터미널역, 3),
+                new Section(삼호선, 남부터미널역, 양재역, 2),
+                new Section(사호선, 강남역, 남부터미널역, 20),
+                new Section(new Line("외딴선", "black"), 광교역, station(6L, "광교중앙역"), 3)));
+    }
+
+    @Test
+    void findMinTransferPath() {
+        // when
+        Path path = new MultiCriteriaSearch().findMinTransferPath(graph, 강남역.getId(), 남부터미널역.getId());
+
+        // then
+        assertThat(path.getStations()).containsExactly(강남역, 남부터미널역);
+        assertThat(path.getDistance()).isEqualTo(20);
+        assertThat(path.getTransfers()).isZero();
+    }
+
+    @DisplayName("환승 횟수가 같으면 더 짧은 경로를 찾는다.")
+    @Test
+    void findMinTransferPathWithSameTransfers() {
+        // when
+        Path path = new MultiCriteriaSearch().findMinTransferPath(graph, 교대역.getId(), 양재역.getId());
+
+        // then
+        assertThat(path.getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(path.getTransfers()).isZero();
+    }
+
+    @DisplayName("거리와 환승 횟수 모두에서 다른 경로보다 나쁘지 않은 경로들을 거리 순서로 찾는다.")
+    @Test
+    void findParetoPaths() {
+        // when
+        List<Path> paths = new MultiCriteriaSearch().findParetoPaths(graph, 강남역.getId(), 남부터미널역.getId(), 8);
+
+        // then
+        assertThat(paths).extracting(Path::getDistance).containsExactly(12, 20);
+        assertThat(paths).extracting(Path::getTransfers).containsExactly(1, 0);
+        assertThat(paths.get(0).getStations()).containsExactly(강남역, 양재역, 남부터미널역);
+    }
+
+    @Test
+    void findPathWithNotConnectedStation() {
+        assertThatThrownBy(() -> new MultiCriteriaSearch().findMinTransferPath(graph, 강남역.getId(), 광교역.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MultiCriteriaSearch().findParetoPaths(graph, 강남역.getId(), 광교역.getId(), 8))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
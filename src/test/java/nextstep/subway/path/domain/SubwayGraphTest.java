@@ -0,0 +1,148 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionChanges;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static nextstep.subway.station.StationFixture.station;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노선도 그래프")
+public class SubwayGraphTest {
+    @DisplayName("구간 추가로 나뉜 구간은 간선 두 개로 바뀐다.")
+    @Test
+    void applySplit() {
+        // given
+        Station 강남역 = station(1L, "강남역");
+        Station 양재역 = station(2L, "양재역");
+        Station 광교역 = station(3L, "광교역");
+        Line 신분당선 = new Line("신분당선", "red", 강남역, 광교역, 10);
+        SubwayGraph graph = SubwayGraph.of(1L, 신분당선.getSections());
+
+        // when
+        SectionChanges changes = 신분당선.addSection(강남역, 양재역, 3);
+        SubwayGraph patched = graph.apply(2L, changes.getRemoved(), changes.getAdded());
+
+        // then
+        assertThat(changes.getRemoved()).hasSize(1);
+        assertThat(changes.getAdded()).hasSize(2);
+        assertThat(patched.getVersion()).isEqualTo(2L);
+        assertThat(new DijkstraSearch().findPath(patched, 강남역.getId(), 광교역.getId()).getStations())
+                .containsExactly(강남역, 양재역, 광교역);
+    }
+
+    @DisplayName("역 제거로 합쳐진 구간은 간선 하나로 바뀐다.")
+    @Test
+    void applyMerge() {
+        // given
+        Station 강남역 = station(1L, "강남역");
+        Station 양재역 = station(2L, "양재역");
+        Station 광교역 = station(3L, "광교역");
+        Line 신분당선 = new Line("신분당선", "red", 강남역, 광교역, 10);
+        신분당선.addSection(강남역, 양재역, 3);
+        SubwayGraph graph = SubwayGraph.of(1L, 신분당선.getSections());
+
+        // when
+        SectionChanges changes = 신분당선.removeStation(양재역);
+        SubwayGraph patched = graph.apply(2L, changes.getRemoved(), changes.getAdded());
+
+        // then
+        assertThat(changes.getRemoved()).hasSize(2);
+        assertThat(changes.getAdded()).hasSize(1);
+        assertThat(new DijkstraSearch().findPath(patched, 강남역.getId(), 광교역.getId()).getStations())
+                .containsExactly(강남역, 광교역);
+    }
+
+    @DisplayName("이미 반영된 변경이나 없는 구간의 변경은 반영하지 않는다.")
+    @Test
+    void applyInconsistentChanges() {
+        // given
+        Station 강남역 = station(1L, "강남역");
+        Station 양재역 = station(2L, "양재역");
+        Station 광교역 = station(3L, "광교역");
+        Line 신분당선 = new Line("신분당선", "red", 강남역, 광교역, 10);
+        SectionChanges changes = 신분당선.addSection(강남역, 양재역, 3);
+        SubwayGraph graph = SubwayGraph.of(1L, 신분당선.getSections());
+
+        // when, then
+        assertThat(graph.apply(2L, changes.getRemoved(), changes.getAdded())).isNull();
+    }
+
+    @DisplayName("구간 변경을 차례로 반영한 그래프는 전체를 다시 만든 그래프와 같은 거리를 낸다.")
+    @Test
+    void applyIsConsistentWithRebuild() {
+        // given
+        Random random = new Random(2021);
+        List<Station> stations = new ArrayList<>();
+        for (long id = 1; id <= 60; id++) {
+            stations.add(station(id, "역" + id));
+        }
+        List<Line> lines = Arrays.asList(
+                new Line("1호선", "blue", stations.get(0), stations.get(1), 10),
+                new Line("2호선", "green", stations.get(1), stations.get(2), 10),
+                new Line("3호선", "orange", stations.get(3), stations.get(0), 10));
+        long version = 1L;
+        SubwayGraph graph = SubwayGraph.of(version, allSections(lines));
+
+        // when, then
+        for (int i = 0; i < 300; i++) {
+            Line line = lines.get(random.nextInt(lines.size()));
+            SectionChanges changes = mutate(line, stations, random);
+            if (changes == null) {
+                continue;
+            }
+            graph = graph.apply(++version, changes.getRemoved(), changes.getAdded());
+            assertThat(graph).isNotNull();
+            assertSameDistances(graph, SubwayGraph.of(version, allSections(lines)));
+        }
+    }
+
+    private static SectionChanges mutate(Line line, List<Station> stations, Random random) {
+        List<Station> lineStations = line.getStations();
+        try {
+            if (random.nextInt(3) == 0 && lineStations.size() > 2) {
+                return line.removeStation(lineStations.get(random.nextInt(lineStations.size())));
+            }
+            Station station = stations.get(random.nextInt(stations.size()));
+            Station existing = lineStations.get(random.nextInt(lineStations.size()));
+            int distance = 1 + random.nextInt(4);
+            return random.nextBoolean()
+                    ? line.addSection(existing, station, distance)
+                    : line.addSection(station, existing, distance);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void assertSameDistances(SubwayGraph patched, SubwayGraph rebuilt) {
+        DijkstraSearch search = new DijkstraSearch();
+        for (int source = 0; source < rebuilt.size(); source++) {
+            Long sourceId = rebuilt.station(source).getId();
+            assertThat(patched.contains(sourceId)).isTrue();
+            int[] expected = search.distancesFrom(rebuilt, source);
+            int[] actual = search.distancesFrom(patched, patched.indexOf(sourceId));
+            for (int target = 0; target < rebuilt.size(); target++) {
+                assertThat(actual[patched.indexOf(rebuilt.station(target).getId())]).isEqualTo(expected[target]);
+            }
+        }
+        for (int node = 0; node < patched.size(); node++) {
+            if (!rebuilt.contains(patched.station(node).getId())) {
+                assertThat(patched.edgeEnd(node)).isEqualTo(patched.edgeStart(node));
+            }
+        }
+    }
+
+    private static List<Section> allSections(List<Line> lines) {
+        List<Section> sections = new ArrayList<>();
+        lines.forEach(line -> sections.addAll(line.getSections()));
+        return sections;
+    }
+}
@@ -0,0 +1,100 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.station.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static nextstep.subway.station.StationFixture.station;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Yen 알고리즘 대안 경로 탐색")
+public class YenSearchTest {
+    private Station 강남역;
+    private Station 양재역;
+    private Station 교대역;
+    private Station 남부터미널역;
+    private Station 광교역;
+    private SubwayGraph graph;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = station(1L, "강남역");
+        양재역 = station(2L, "양재역");
+        교대역 = station(3L, "교대역");
+        남부터미널역 = station(4L, "남부터미널역");
+        광교역 = station(5L, "광교역");
+        Line 신분당선 = new Line("신분당선", "red");
+        Line 이호선 = new Line("2호선", "green");
+        Line 삼호선 = new Line("3호선", "orange");
+        graph = SubwayGraph.of(1L, Arrays.asList(
+                new Section(신분당선, 강남역, 양재역, 10),
+                new Section(이호선, 교대역, 강남역, 10),
+                new Section(삼호선, 교대역, 남부터미널역, 3),
+                new Section(삼호선, 남부터미널역, 양재역, 2),
+                new Section(삼호선, 양재역, 광교역, 5),
+                new Section(신분당선, 남부터미널역, 강남역, 6)));
+    }
+
+    @Test
+    void findPaths() {
+        // when
+        List<Path> paths = new YenSearch().findPaths(graph, 교대역.getId(), 양재역.getId(), 3);
+
+        // then
+        assertThat(paths).extracting(Path::getDistance).containsExactly(5, 18, 19);
+        assertThat(paths.get(0).getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(paths.get(1).getStations()).containsExactly(교대역, 강남역, 남부터미널역, 양재역);
+        assertThat(paths.get(2).getStations()).containsExactly(교대역, 남부터미널역, 강남역, 양재역);
+    }
+
+    @DisplayName("존재하는 경로보다 많이 요청하면 존재하는 경로만 찾는다.")
+    @Test
+    void findPathsMoreThanExists() {
+        // when
+        List<Path> paths = new YenSearch().findPaths(graph, 교대역.getId(), 광교역.getId(), 10);
+
+        // then
+        assertThat(paths).extracting(Path::getDistance).containsExactly(10, 23, 24, 25);
+    }
+
+    @DisplayName("길이가 같은 대안 경로는 어느 분기에서 찾든 같은 순서로 고른다.")
+    @Test
+    void findPathsWithTiedDistance() {
+        // given
+        Station 판교역 = station(6L, "판교역");
+        Line 신분당선 = new Line("신분당선", "red");
+        Line 이호선 = new Line("2호선", "green");
+        Line 삼호선 = new Line("3호선", "orange");
+        SubwayGraph tied = SubwayGraph.of(1L, Arrays.asList(
+                new Section(신분당선, 강남역, 양재역, 4),
+                new Section(신분당선, 양재역, 광교역, 5),
+                new Section(이호선, 강남역, 교대역, 5),
+                new Section(삼호선, 양재역, 남부터미널역, 2),
+                new Section(삼호선, 남부터미널역, 광교역, 4),
+                new Section(이호선, 교대역, 판교역, 3),
+                new Section(이호선, 판교역, 광교역, 2)));
+
+        // when
+        List<Path> paths = new YenSearch().findPaths(tied, 강남역.getId(), 광교역.getId(), 3);
+
+        // then
+        assertThat(paths).extracting(Path::getDistance).containsExactly(9, 10, 10);
+        assertThat(paths.get(1).getStations()).containsExactly(강남역, 양재역, 남부터미널역, 광교역);
+        assertThat(paths.get(2).getStations()).containsExactly(강남역, 교대역, 판교역, 광교역);
+        assertThat(new YenSearch().findPaths(tied, 강남역.getId(), 광교역.getId(), 2).get(1).getStations())
+                .containsExactly(강남역, 양재역, 남부터미널역, 광교역);
+    }
+
+    @Test
+    void findPathsWithSameStation() {
+        assertThatThrownBy(() -> new YenSearch().findPaths(graph, 교대역.getId(), 교대역.getId(), 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -8,6 +8,7 @@ import nextstep.subway.station.dto.StationRequest;
 import nextstep.subway.station.dto.StationResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
@@ -60,6 +61,29 @@ public class StationAcceptanceTest extends AcceptanceTest {
         지하철역_목록_포함됨(response, Arrays.asList(createResponse1, createResponse2));
     }
 
+    @DisplayName("지하철역 목록이 바뀌지 않았으면 304 로 응답한다.")
+    @Test
+    void getStationsNotModified() {
+        // given
+        지하철역_등록되어_있음(강남역);
+        String eTag = 지하철역_목록_조회_요청().header(HttpHeaders.ETAG);
+
+        // when
+        ExtractableResponse<Response> response = 지하철역_목록_조회_요청(eTag);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.header(HttpHeaders.ETAG)).isEqualTo(eTag);
+
+        // when
+        지하철역_등록되어_있음(역삼역);
+        ExtractableResponse<Response> modifiedResponse = 지하철역_목록_조회_요청(eTag);
+
+        // then
+        지하철역_목록_응답됨(modifiedResponse);
+        assertThat(modifiedResponse.jsonPath().getList(".", StationResponse.class)).hasSize(2);
+    }
+
     @DisplayName("지하철역을 제거한다.")
     @Test
     void deleteStation() {
@@ -97,6 +121,15 @@ public class StationAcceptanceTest extends AcceptanceTest {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 지하철역_목록_조회_요청(String eTag) {
+        return RestAssured
+                .given().log().all()
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when().get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 지하철역_제거_요청(ExtractableResponse<Response> response) {
         String uri = response.header("Location");
 
@@ -0,0 +1,15 @@
+package nextstep.subway.station;
+
+import nextstep.subway.station.domain.Station;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class StationFixture {
+    private StationFixture() {
+    }
+
+    public static Station station(Long id, String name) {
+        Station station = new Station(name);
+        ReflectionTestUtils.setField(station, "id", id);
+        return station;
+    }
+}
@@ -1,7 +1,10 @@
 package nextstep.subway.utils;
 
 import com.google.common.base.CaseFormat;
+import nextstep.subway.line.domain.LineChangedEvent;
+import nextstep.subway.member.domain.MemberChangedEvent;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,8 +21,14 @@ public class DatabaseCleanup implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     private List<String> tableNames;
 
+    public DatabaseCleanup(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
     @Override
     public void afterPropertiesSet() {
         tableNames = entityManager.getMetamodel().getEntities().stream()
@@ -39,5 +48,7 @@ public class DatabaseCleanup implements InitializingBean {
         }
 
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+        eventPublisher.publishEvent(new LineChangedEvent(null));
+        eventPublisher.publishEvent(new MemberChangedEvent(null));
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package nextstep.subway.utils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP 요청을 처리하는 스레드에서 준비한 쿼리만 센다.
+ * 즐겨찾기 경로 갱신이나 경로 탐색 전처리처럼 백그라운드 스레드에서 실행되는 쿼리는 세지 않는다.
+ */
+public class RequestStatementCounter implements StatementInspector {
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    public static int count() {
+        return COUNT.get();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (RequestContextHolder.getRequestAttributes() != null) {
+            COUNT.incrementAndGet();
+        }
+        return sql;
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 
@@ -25,12 +26,14 @@ public class MockitoExtensionTest {
     private LineRepository lineRepository;
     @Mock
     private StationService stationService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Test
     void findAllLines() {
         // given
         when(lineRepository.findAll()).thenReturn(Lists.newArrayList(new Line()));
-        LineService lineService = new LineService(lineRepository, stationService);
+        LineService lineService = new LineService(lineRepository, stationService, eventPublisher);
 
         // when
         List<LineResponse> responses = lineService.findLines();
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 
@@ -24,12 +25,14 @@ public class SpringExtensionTest {
     private LineRepository lineRepository;
     @MockBean
     private StationService stationService;
+    @MockBean
+    private ApplicationEventPublisher eventPublisher;
 
     @Test
     void findAllLines() {
         // given
         when(lineRepository.findAll()).thenReturn(Lists.newArrayList(new Line()));
-        LineService lineService = new LineService(lineRepository, stationService);
+        LineService lineService = new LineService(lineRepository, stationService, eventPublisher);
 
         // when
         List<LineResponse> responses = lineService.findLines();